@@ -0,0 +1,149 @@
+package com.hakan.core.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * BukkitMocks class to create bukkit
+ * objects for benchmarks without a server.
+ * Mocks are proxies which answer only the
+ * methods used by benchmarked code.
+ */
+public final class BukkitMocks {
+
+    private static final Map<UUID, Player> players = new ConcurrentHashMap<>();
+
+    /**
+     * Sets mock server to bukkit
+     * if it is not set yet.
+     */
+    public static void installServer() {
+        if (Bukkit.getServer() != null)
+            return;
+
+        Logger logger = Logger.getLogger("hCore-benchmarks");
+        Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class[]{Server.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPlayer":
+                            return (args[0] instanceof UUID) ? players.get(args[0]) : null;
+                        case "getLogger":
+                            return logger;
+                        case "getName":
+                        case "getVersion":
+                        case "getBukkitVersion":
+                            return "benchmark";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return BukkitMocks.defaultValue(method.getReturnType());
+                    }
+                }));
+    }
+
+    /**
+     * Creates mock world.
+     *
+     * @param name    World name.
+     * @param players Players in world.
+     * @return World.
+     */
+    @Nonnull
+    public static World createWorld(@Nonnull String name, @Nonnull List<Player> players) {
+        UUID uid = UUID.randomUUID();
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class[]{World.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "getUID":
+                            return uid;
+                        case "getPlayers":
+                            return players;
+                        case "getMaxHeight":
+                            return 256;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return BukkitMocks.defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * Creates mock player and registers
+     * it to the mock server.
+     *
+     * @param location Location of player.
+     * @return Player.
+     */
+    @Nonnull
+    public static Player createPlayer(@Nonnull Location location) {
+        UUID uid = UUID.randomUUID();
+        Player player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class[]{Player.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUniqueId":
+                            return uid;
+                        case "getLocation":
+                            return location.clone();
+                        case "getWorld":
+                            return location.getWorld();
+                        case "isOnline":
+                            return true;
+                        case "hashCode":
+                            return uid.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return BukkitMocks.defaultValue(method.getReturnType());
+                    }
+                });
+
+        players.put(uid, player);
+        return player;
+    }
+
+
+
+    /**
+     * Gets default value of type.
+     *
+     * @param type Type.
+     * @return Default value.
+     */
+    private static Object defaultValue(@Nonnull Class<?> type) {
+        if (!type.isPrimitive() || type == void.class)
+            return null;
+        if (type == boolean.class)
+            return false;
+        if (type == char.class)
+            return '\0';
+        if (type == float.class)
+            return 0f;
+        if (type == double.class)
+            return 0d;
+        if (type == long.class)
+            return 0L;
+        if (type == int.class)
+            return 0;
+        if (type == short.class)
+            return (short) 0;
+        return (byte) 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hakan.core.benchmark;
+
+import com.hakan.core.HCore;
+import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.utils.ColorUtil;
+import com.hakan.core.utils.ReflectionUtils;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ColorUtilBenchmark class to compare color
+ * translation with the regex based translation
+ * it replaced. Repeated lines are served from the
+ * cache, unique lines are more than the cache can
+ * hold so they are translated every time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColorUtilBenchmark {
+
+    private static final int COUNT = 4096;
+    private static final Pattern HEX_PATTERN = Pattern.compile("#[a-fA-F\\d]{6}");
+
+    @Param({"repeated", "unique"})
+    public String lines;
+
+    private String[] messages;
+
+    /**
+     * Creates messages to translate.
+     */
+    @Setup
+    public void setup() {
+        ReflectionUtils.setField(HCore.class, "VERSION", ProtocolVersion.v1_16_R3);
+
+        this.messages = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            int id = this.lines.equals("repeated") ? i % 16 : i;
+            this.messages[i] = "&7Kills: &a" + id + " &8| #FFAA00Coins: &e&l" + (id * 7) + " #12ab34Rank &r&f#" + id;
+        }
+    }
+
+    /**
+     * Translates messages with ColorUtil.
+     *
+     * @param blackhole Blackhole.
+     */
+    @Benchmark
+    public void colored(Blackhole blackhole) {
+        for (String message : this.messages)
+            blackhole.consume(ColorUtil.colored(message));
+    }
+
+    /**
+     * Translates messages with regex
+     * replacement and Bukkit translation.
+     *
+     * @param blackhole Blackhole.
+     */
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String message : this.messages)
+            blackhole.consume(ColorUtilBenchmark.regexColored(message));
+    }
+
+
+
+    /**
+     * Previous implementation of
+     * {@link ColorUtil#colored(String)}.
+     *
+     * @param message The message to convert.
+     * @return The colored message.
+     */
+    private static String regexColored(String message) {
+        Matcher matcher = HEX_PATTERN.matcher(message);
+        while (matcher.find()) {
+            String color = message.substring(matcher.start(), matcher.end());
+            message = message.replace(color, net.md_5.bungee.api.ChatColor.of(color) + "");
+            matcher = HEX_PATTERN.matcher(message);
+        }
+        return ChatColor.translateAlternateColorCodes('&', message);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hakan.core.benchmark;
+
+import com.hakan.core.pathfinder.PathGrid;
+
+import java.util.Random;
+
+/**
+ * GridMaze class to create synthetic
+ * block grids for pathfinder benchmarks.
+ * The grid has a flat floor and random
+ * two blocks high pillars on it.
+ */
+public final class GridMaze implements PathGrid {
+
+    public static final int FLOOR = 63;
+
+    private final int size;
+    private final boolean[] pillars;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param size    Width and depth of grid.
+     * @param density Pillar density between 0 and 1.
+     * @param seed    Random seed.
+     */
+    public GridMaze(int size, double density, long seed) {
+        this.size = size;
+        this.pillars = new boolean[size * size];
+
+        Random random = new Random(seed);
+        for (int i = 0; i < this.pillars.length; i++)
+            this.pillars[i] = random.nextDouble() < density;
+
+        this.pillars[0] = false;
+        this.pillars[this.pillars.length - 1] = false;
+    }
+
+    /**
+     * Gets width and depth of grid.
+     *
+     * @return Size.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFlags(int x, int y, int z) {
+        if (x < 0 || z < 0 || x >= this.size || z >= this.size)
+            return SOLID;
+        if (y <= FLOOR)
+            return SOLID;
+        if (y <= FLOOR + 2 && this.pillars[x * this.size + z])
+            return SOLID;
+        return 0;
+    }
+}
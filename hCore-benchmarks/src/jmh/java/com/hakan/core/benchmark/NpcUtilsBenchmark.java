@@ -0,0 +1,59 @@
+package com.hakan.core.benchmark;
+
+import com.hakan.core.npc.utils.NpcUtils;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NpcUtilsBenchmark class to measure look
+ * angle calculation between NPCs and players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NpcUtilsBenchmark {
+
+    private static final int COUNT = 1024;
+
+    private Location[] from;
+    private Location[] to;
+
+    /**
+     * Creates random location pairs.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        World world = BukkitMocks.createWorld("npc", Collections.emptyList());
+
+        this.from = new Location[COUNT];
+        this.to = new Location[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            this.from[i] = new Location(world, random.nextDouble() * 100, 64, random.nextDouble() * 100);
+            this.to[i] = new Location(world, random.nextDouble() * 100, 64 + random.nextDouble() * 4, random.nextDouble() * 100);
+        }
+    }
+
+    /**
+     * Calculates angles of all pairs.
+     *
+     * @param blackhole Blackhole.
+     */
+    @Benchmark
+    public void calculateVector(Blackhole blackhole) {
+        for (int i = 0; i < COUNT; i++)
+            blackhole.consume(NpcUtils.calculateVector(this.from[i], this.to[i]));
+    }
+}
@@ -0,0 +1,110 @@
+package com.hakan.core.benchmark;
+
+import com.hakan.core.pathfinder.BatchPathfinder;
+import com.hakan.core.pathfinder.FlowField;
+import com.hakan.core.pathfinder.HierarchicalPathfinder;
+import com.hakan.core.pathfinder.Pathfinder;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PathfinderBenchmark class to measure path
+ * queries across a synthetic grid from one
+ * corner to the opposite corner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathfinderBenchmark {
+
+    @Param({"64", "128", "256"})
+    public int size;
+
+    @Param({"0.0", "0.2"})
+    public double density;
+
+    private GridMaze grid;
+    private Location start;
+    private Location end;
+    private List<Location> starts;
+
+    /**
+     * Creates grid and locations.
+     */
+    @Setup
+    public void setup() {
+        World world = BukkitMocks.createWorld("pathfinder", Collections.emptyList());
+
+        this.grid = new GridMaze(this.size, this.density, 42);
+        this.start = new Location(world, 0, GridMaze.FLOOR + 1, 0);
+        this.end = new Location(world, this.size - 1, GridMaze.FLOOR + 1, this.size - 1);
+
+        this.starts = new ArrayList<>();
+        for (int i = 0; i < 32; i++)
+            this.starts.add(new Location(world, (i * 7) % this.size, GridMaze.FLOOR + 1, (i * 13) % this.size));
+    }
+
+    /**
+     * Finds path with node per block.
+     *
+     * @return The paths.
+     */
+    @Benchmark
+    public Location[] path() {
+        return new Pathfinder(this.grid, this.start, this.end, this.size * this.size, false, 1).getPath();
+    }
+
+    /**
+     * Finds smoothed path.
+     *
+     * @return The paths.
+     */
+    @Benchmark
+    public Location[] smoothPath() {
+        return new Pathfinder(this.grid, this.start, this.end, this.size * this.size, false, 1).getSmoothPath();
+    }
+
+    /**
+     * Finds path over chunk clusters.
+     *
+     * @return The paths.
+     */
+    @Benchmark
+    public Location[] hierarchicalPath() {
+        return new HierarchicalPathfinder(this.grid, this.start, this.end, 1000, false, 1).getPath();
+    }
+
+    /**
+     * Finds paths of many locations
+     * to one goal with a flow field.
+     *
+     * @return The paths.
+     */
+    @Benchmark
+    public List<Location[]> flowField() {
+        return BatchPathfinder.findAll(this.grid, this.starts, this.end, this.size * this.size, false, 1);
+    }
+
+    /**
+     * Creates flow field of the goal.
+     *
+     * @return Flow field.
+     */
+    @Benchmark
+    public FlowField flowFieldCreation() {
+        return new FlowField(this.grid, this.end, this.size * this.size, false, 1);
+    }
+}
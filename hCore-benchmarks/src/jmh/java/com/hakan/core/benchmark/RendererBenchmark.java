@@ -0,0 +1,75 @@
+package com.hakan.core.benchmark;
+
+import com.hakan.core.renderer.Renderer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RendererBenchmark class to measure one
+ * render pass of N renderers for M players
+ * spread over an area with mocked bukkit objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RendererBenchmark {
+
+    private static final int AREA = 512;
+
+    @Param({"10", "100", "1000"})
+    public int renderers;
+
+    @Param({"10", "100"})
+    public int players;
+
+    private List<Renderer> rendererList;
+
+    /**
+     * Creates players and renderers.
+     */
+    @Setup
+    public void setup() {
+        BukkitMocks.installServer();
+
+        Random random = new Random(42);
+        List<Player> playerList = new ArrayList<>();
+        World world = BukkitMocks.createWorld("renderer", playerList);
+
+        for (int i = 0; i < this.players; i++)
+            playerList.add(BukkitMocks.createPlayer(new Location(world, random.nextInt(AREA), 64, random.nextInt(AREA))));
+
+        this.rendererList = new ArrayList<>();
+        for (int i = 0; i < this.renderers; i++) {
+            Location location = new Location(world, random.nextInt(AREA), 64, random.nextInt(AREA));
+            this.rendererList.add(new Renderer(location, 64, players -> {
+            }, players -> {
+            }, renderer -> {
+            }));
+        }
+    }
+
+    /**
+     * Renders all renderers once.
+     *
+     * @return Renderer count.
+     */
+    @Benchmark
+    public int render() {
+        this.rendererList.forEach(Renderer::render);
+        return this.rendererList.size();
+    }
+}
@@ -23,14 +23,23 @@
 import com.hakan.core.npc.Npc;
 import com.hakan.core.npc.NpcHandler;
 import com.hakan.core.npc.builder.NpcBuilder;
+import com.hakan.core.npc.crowd.NpcCrowd;
+import com.hakan.core.npc.crowd.NpcCrowdHandler;
 import com.hakan.core.packet.PacketHandler;
 import com.hakan.core.particle.Particle;
 import com.hakan.core.particle.ParticleHandler;
+import com.hakan.core.pathfinder.PathfinderHandler;
 import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.renderer.RendererHandler;
 import com.hakan.core.scheduler.Scheduler;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
+import com.hakan.core.scoreboard.objective.ObjectiveHandler;
+import com.hakan.core.skin.SkinHandler;
+import com.hakan.core.snapshot.SnapshotHandler;
 import com.hakan.core.spam.Spam;
+import com.hakan.core.tablist.TabList;
+import com.hakan.core.tablist.TabListHandler;
 import com.hakan.core.ui.Gui;
 import com.hakan.core.ui.GuiHandler;
 import com.hakan.core.ui.anvil.AnvilGui;
@@ -53,6 +62,7 @@
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
@@ -60,6 +70,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -111,8 +122,14 @@ public static void initialize(@Nonnull JavaPlugin plugin) {
         BorderHandler.initialize();
         MessageHandler.initialize();
         ParticleHandler.initialize();
+        RendererHandler.initialize();
         HologramHandler.initialize();
         ScoreboardHandler.initialize();
+        ObjectiveHandler.initialize();
+        TabListHandler.initialize();
+        SnapshotHandler.initialize();
+        SkinHandler.initialize();
+        PathfinderHandler.initialize();
     }
 
 
@@ -935,6 +952,55 @@ public static Scoreboard createScoreboard(@Nonnull UUID uid, @Nonnull String tit
     }
 
 
+    /*
+    TAB LIST
+     */
+
+    /**
+     * Finds a created tab list.
+     *
+     * @param player Player.
+     * @return Tab list as optional.
+     */
+    @Nonnull
+    public static Optional<TabList> findTabListByPlayer(@Nonnull Player player) {
+        return TabListHandler.findByPlayer(player);
+    }
+
+    /**
+     * Gets a created tab list.
+     *
+     * @param player Player.
+     * @return Tab list.
+     */
+    @Nonnull
+    public static TabList getTabListByPlayer(@Nonnull Player player) {
+        return TabListHandler.getByPlayer(player);
+    }
+
+    /**
+     * Creates new instance of TabList as force.
+     *
+     * @param player Player.
+     * @return new instance of TabList.
+     */
+    @Nonnull
+    public static TabList forceCreateTabList(@Nonnull Player player) {
+        return TabListHandler.forceCreate(player);
+    }
+
+    /**
+     * Creates new instance of TabList.
+     *
+     * @param player Player.
+     * @return new instance of TabList.
+     */
+    @Nonnull
+    public static TabList createTabList(@Nonnull Player player) {
+        return TabListHandler.create(player);
+    }
+
+
     /*
     NPC
      */
@@ -1055,6 +1121,52 @@ public static NpcBuilder npcBuilder(@Nonnull String id) {
         return NpcHandler.npcBuilder(id);
     }
 
+    /**
+     * Finds a created npc crowd.
+     *
+     * @param id Crowd id.
+     * @return Crowd as optional.
+     */
+    @Nonnull
+    public static Optional<NpcCrowd> findCrowdByID(@Nonnull String id) {
+        return NpcCrowdHandler.findByID(id);
+    }
+
+    /**
+     * Gets a created npc crowd.
+     *
+     * @param id Crowd id.
+     * @return Crowd.
+     */
+    @Nonnull
+    public static NpcCrowd getCrowdByID(@Nonnull String id) {
+        return NpcCrowdHandler.getByID(id);
+    }
+
+    /**
+     * Creates a new npc crowd.
+     *
+     * @param id       Crowd id.
+     * @param location Center location.
+     * @param radius   Render radius.
+     * @return Created crowd.
+     */
+    @Nonnull
+    public static NpcCrowd createCrowd(@Nonnull String id, @Nonnull Location location, double radius) {
+        return NpcCrowdHandler.create(id, location, radius);
+    }
+
+    /**
+     * Deletes a npc crowd with given id.
+     *
+     * @param id Crowd id.
+     * @return Deleted crowd.
+     */
+    @Nonnull
+    public static NpcCrowd deleteCrowd(@Nonnull String id) {
+        return NpcCrowdHandler.delete(id);
+    }
+
 
     /*
     ITEM
@@ -1360,6 +1472,36 @@ public static HologramBuilder hologramBuilder(@Nonnull String id) {
     }
 
 
+    /*
+    SNAPSHOT
+     */
+
+    /**
+     * Saves all holograms and npcs
+     * to the file asynchronously.
+     *
+     * @param file File.
+     * @return Future of written snapshot count.
+     */
+    @Nonnull
+    public static CompletableFuture<Integer> saveSnapshots(@Nonnull File file) {
+        return SnapshotHandler.save(file);
+    }
+
+    /**
+     * Loads holograms and npcs from the file
+     * asynchronously and restores them lazily
+     * when their chunks are loaded.
+     *
+     * @param file File.
+     * @return Future of read snapshot count.
+     */
+    @Nonnull
+    public static CompletableFuture<Integer> loadSnapshots(@Nonnull File file) {
+        return SnapshotHandler.load(file);
+    }
+
+
     /*
     CONFIGURATION
      */
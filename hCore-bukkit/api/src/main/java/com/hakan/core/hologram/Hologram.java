@@ -6,7 +6,9 @@
 import com.hakan.core.hologram.line.empty.EmptyLine;
 import com.hakan.core.hologram.line.item.ItemLine;
 import com.hakan.core.hologram.line.text.TextLine;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.renderer.Renderer;
+import com.hakan.core.renderer.RendererHandler;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -17,10 +19,11 @@
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -37,6 +40,7 @@ public final class Hologram {
     private final HologramAction action;
     private final List<HologramLine> lines;
     private double lineDistance;
+    private boolean preciseClick;
 
     /**
      * Creates new instance of this class.
@@ -57,7 +61,7 @@ public Hologram(@Nonnull String id,
         Validate.notNull(playerList, "player list cannot be null!");
 
         this.id = id;
-        this.lines = new LinkedList<>();
+        this.lines = new CopyOnWriteArrayList<>();
         this.lineDistance = lineDistance;
         this.action = new HologramAction(this);
         this.renderer = new Renderer(location, 30, playerList,
@@ -66,6 +70,7 @@ public Hologram(@Nonnull String id,
                 renderer -> this.lines.forEach(line -> line.hide(renderer.getShownPlayers())));
 
         this.renderer.showEveryone(showEveryone);
+        RendererHandler.register(this.renderer);
         this.renderer.render();
         this.action.onSpawn();
     }
@@ -130,6 +135,30 @@ public Hologram setLineDistance(double lineDistance) {
         return this.setLocation(this.getLocation());
     }
 
+    /**
+     * Checks click resolution uses eye
+     * ray of player instead of clicked entity.
+     *
+     * @return If precise click is enabled, returns true.
+     */
+    public boolean isPreciseClick() {
+        return this.preciseClick;
+    }
+
+    /**
+     * Sets click resolution mode. If enabled,
+     * clicked line is calculated by intersecting
+     * eye ray of player with hologram lines.
+     *
+     * @param preciseClick Precise click mode.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Hologram setPreciseClick(boolean preciseClick) {
+        this.preciseClick = preciseClick;
+        return this;
+    }
+
     /**
      * Gets renderer.
      *
@@ -203,6 +232,22 @@ public Hologram whenClicked(@Nonnull BiConsumer<Player, HologramLine> consumer)
         return this;
     }
 
+    /**
+     * When the player click on hologram,
+     * this consumer will be called. Clicks of
+     * the same player in delay are ignored.
+     *
+     * @param consumer Consumer.
+     * @param delay    Delay between clicks as tick.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Hologram whenClicked(@Nonnull BiConsumer<Player, HologramLine> consumer, long delay) {
+        this.action.whenClicked(consumer);
+        this.action.setClickDelay(delay);
+        return this;
+    }
+
     /**
      * Gets hologram lines.
      *
@@ -210,7 +255,26 @@ public Hologram whenClicked(@Nonnull BiConsumer<Player, HologramLine> consumer)
      */
     @Nonnull
     public List<HologramLine> getLines() {
-        return new LinkedList<>(this.lines);
+        return new ArrayList<>(this.lines);
+    }
+
+    /**
+     * Gets line count of hologram.
+     *
+     * @return Line count.
+     */
+    public int getLineCount() {
+        return this.lines.size();
+    }
+
+    /**
+     * Gets index of the line.
+     *
+     * @param line Line.
+     * @return Index of line, -1 if line is not in hologram.
+     */
+    public int indexOf(@Nonnull HologramLine line) {
+        return this.lines.indexOf(Validate.notNull(line, "line cannot be null!"));
     }
 
     /**
@@ -221,7 +285,7 @@ public List<HologramLine> getLines() {
      */
     @Nonnull
     public <T extends HologramLine> T getLine(int index) {
-        Validate.isTrue((index > this.lines.size() || index < 0), "index cannot bigger line size or smaller than 0: " + index);
+        Validate.isTrue((index >= this.lines.size() || index < 0), "index cannot bigger line size or smaller than 0: " + index);
         return (T) this.lines.get(index);
     }
 
@@ -258,8 +322,8 @@ public boolean hasLineByEntityID(int entityID) {
      */
     @Nullable
     public <T extends HologramLine> T getLineByEntityID(int entityID) {
-        return (T) this.lines.stream().filter(line -> line.getEntityID() == entityID)
-                .findFirst().orElse(null);
+        HologramLine line = HologramHandler.findLineByEntityID(entityID).orElse(null);
+        return (line != null && line.getHologram() == this) ? (T) line : null;
     }
 
     /**
@@ -272,8 +336,7 @@ public <T extends HologramLine> T getLineByEntityID(int entityID) {
      */
     @Nullable
     public <T extends HologramLine> T getLineByEntityID(int entityID, @Nonnull Class<T> tClass) {
-        return tClass.cast(this.lines.stream().filter(line -> line.getEntityID() == entityID)
-                .findFirst().orElse(null));
+        return tClass.cast(this.getLineByEntityID(entityID));
     }
 
     /**
@@ -444,6 +507,7 @@ public Hologram setLocation(@Nonnull Location location) {
     @Nonnull
     public Hologram removeLine(int index) {
         HologramLine line = this.lines.remove(index);
+        HologramHandler.unindexLine(line);
         line.hide(this.renderer.getShownPlayers());
         return this.setLocation(this.getLocation());
     }
@@ -536,13 +600,14 @@ public <T> Hologram insertLine(int index, @Nullable T value) {
             HologramLine line = (HologramLine) value;
 
             this.lines.add(index, line);
+            HologramHandler.indexLine(line);
             line.show(this.renderer.getShownPlayers());
             this.setLocation(this.getLocation());
-        } else if (value instanceof String || value instanceof ItemStack || value == null) {
+        } else if (value instanceof String || value instanceof Text || value instanceof ItemStack || value == null) {
             Location location = this.calculateLocation(this.lines.size());
             this.insertLine(index, HologramLine.create(this, location, value));
         } else {
-            throw new IllegalArgumentException("value must be HologramLine, String, ItemStack or null!");
+            throw new IllegalArgumentException("value must be HologramLine, String, Text, ItemStack or null!");
         }
 
         return this;
@@ -603,15 +668,18 @@ public <T> Hologram setLine(int index, @Nullable T value) {
         if (value instanceof HologramLine) {
             HologramLine line = (HologramLine) value;
             HologramLine old = this.lines.set(index, line);
+            HologramHandler.unindexLine(old);
+            HologramHandler.indexLine(line);
             old.hide(this.renderer.getShownPlayers());
             line.show(this.renderer.getShownPlayers());
 
             this.setLocation(this.getLocation());
-        } else if (value instanceof String) {
+        } else if (value instanceof String || value instanceof Text) {
             HologramLine old = this.lines.get(index);
             if (old instanceof TextLine) {
                 TextLine textLine = (TextLine) old;
-                textLine.setText((String) value);
+                if (value instanceof Text) textLine.setText((Text) value);
+                else textLine.setText((String) value);
             } else {
                 Location location = this.calculateLocation(index);
                 this.setLine(index, HologramLine.create(this, location, value));
@@ -628,7 +696,7 @@ public <T> Hologram setLine(int index, @Nullable T value) {
         } else if (value == null) {
             this.setLine(index, EmptyLine.create(this));
         } else {
-            throw new IllegalArgumentException("value must be HologramLine, String, ItemStack or null!");
+            throw new IllegalArgumentException("value must be HologramLine, String, Text, ItemStack or null!");
         }
 
         return this;
@@ -645,6 +713,7 @@ public Hologram delete() {
             HologramHandler.getContent().remove(this.id);
             this.action.onDelete();
             this.renderer.delete();
+            this.lines.forEach(HologramHandler::unindexLine);
             this.lines.clear();
         }
         return this;
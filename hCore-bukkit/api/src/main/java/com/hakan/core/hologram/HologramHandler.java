@@ -2,6 +2,7 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.builder.HologramBuilder;
+import com.hakan.core.hologram.line.HologramLine;
 import com.hakan.core.hologram.listeners.HologramClickListener;
 import com.hakan.core.utils.Validate;
 
@@ -11,6 +12,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * HologramHandler class to handle
@@ -19,13 +21,12 @@
 public final class HologramHandler {
 
     private static final Map<String, Hologram> holograms = new HashMap<>();
+    private static final Map<Integer, HologramLine> lines = new ConcurrentHashMap<>();
 
     /**
      * Initializes holograms.
      */
     public static void initialize() {
-        HCore.asyncScheduler().every(10)
-                .run(() -> HologramHandler.getValues().forEach(hologram -> hologram.getRenderer().render()));
         HCore.registerListeners(new HologramClickListener());
     }
 
@@ -101,6 +102,19 @@ public static Hologram getByID(@Nonnull String id) {
         return HologramHandler.findByID(id).orElseThrow(() -> new NullPointerException("hologram(" + id + ") cannot be null!"));
     }
 
+    /**
+     * Finds a hologram line by entity id
+     * of its clickable entity. This method
+     * is safe to call from netty threads.
+     *
+     * @param entityID Entity id.
+     * @return Hologram line as optional.
+     */
+    @Nonnull
+    public static Optional<HologramLine> findLineByEntityID(int entityID) {
+        return Optional.ofNullable(lines.get(entityID));
+    }
+
     /**
      * Creates a hologram builder.
      *
@@ -111,4 +125,26 @@ public static Hologram getByID(@Nonnull String id) {
     public static HologramBuilder builder(@Nonnull String id) {
         return new HologramBuilder(id);
     }
+
+
+
+    /**
+     * Adds line to entity id index.
+     *
+     * @param line Hologram line.
+     */
+    static void indexLine(@Nonnull HologramLine line) {
+        if (line.getEntityID() >= 0)
+            lines.put(line.getEntityID(), line);
+    }
+
+    /**
+     * Removes line from entity id index.
+     *
+     * @param line Hologram line.
+     */
+    static void unindexLine(@Nonnull HologramLine line) {
+        if (line.getEntityID() >= 0)
+            lines.remove(line.getEntityID(), line);
+    }
 }
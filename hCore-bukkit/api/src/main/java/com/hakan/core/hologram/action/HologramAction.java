@@ -6,11 +6,13 @@
 import com.hakan.core.hologram.event.HologramDeleteEvent;
 import com.hakan.core.hologram.event.HologramSpawnEvent;
 import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.spam.Debouncer;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -20,7 +22,13 @@
  */
 public final class HologramAction {
 
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final Debouncer DEBOUNCER = new Debouncer();
+
+
+    private final int handle;
     private final Hologram hologram;
+    private long clickDelay;
     private Consumer<Hologram> spawnConsumer;
     private Consumer<Hologram> deleteConsumer;
     private BiConsumer<Player, HologramLine> clickConsumer;
@@ -32,6 +40,8 @@ public final class HologramAction {
      */
     public HologramAction(@Nonnull Hologram hologram) {
         this.hologram = Validate.notNull(hologram, "hologram cannot be null!");
+        this.handle = COUNTER.incrementAndGet();
+        this.clickDelay = 5;
     }
 
     /**
@@ -44,6 +54,26 @@ public Hologram getHologram() {
         return this.hologram;
     }
 
+    /**
+     * Gets click delay as tick. Clicks of
+     * the same player in this window are ignored.
+     *
+     * @return Click delay.
+     */
+    public long getClickDelay() {
+        return this.clickDelay;
+    }
+
+    /**
+     * Sets click delay as tick. Clicks of
+     * the same player in this window are ignored.
+     *
+     * @param clickDelay Click delay.
+     */
+    public void setClickDelay(long clickDelay) {
+        this.clickDelay = Math.max(0, clickDelay);
+    }
+
     /**
      * When hologram is spawned
      * this consumer will be called.
@@ -113,6 +143,10 @@ public void onClick(@Nonnull Player player, @Nonnull HologramLine line) {
         Validate.notNull(player, "player cannot be null!");
         Validate.notNull(line, "line cannot be null!");
 
+        long key = ((long) player.getEntityId() << 32) | (this.handle & 0xFFFFFFFFL);
+        if (DEBOUNCER.check(key, this.clickDelay * 50))
+            return;
+
         if (this.clickConsumer != null)
             this.clickConsumer.accept(player, line);
 
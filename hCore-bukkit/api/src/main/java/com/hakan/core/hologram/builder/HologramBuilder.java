@@ -26,6 +26,8 @@ public final class HologramBuilder {
     private Set<UUID> viewers;
     private boolean showEveryone;
     private double lineDistance;
+    private boolean preciseClick;
+    private long clickDelay;
     private Consumer<Hologram> spawnConsumer;
     private Consumer<Hologram> deleteConsumer;
     private BiConsumer<Player, HologramLine> clickConsumer;
@@ -41,6 +43,7 @@ public HologramBuilder(@Nonnull String id) {
         this.viewers = new HashSet<>();
         this.showEveryone = true;
         this.lineDistance = 0.25;
+        this.clickDelay = 5;
     }
 
     /**
@@ -142,6 +145,20 @@ public HologramBuilder lineDistance(double lineDistance) {
         return this;
     }
 
+    /**
+     * Sets click resolution mode of hologram.
+     * If enabled, clicked line is calculated by
+     * eye ray of player instead of clicked entity.
+     *
+     * @param preciseClick Precise click mode.
+     * @return HologramBuilder.
+     */
+    @Nonnull
+    public HologramBuilder preciseClick(boolean preciseClick) {
+        this.preciseClick = preciseClick;
+        return this;
+    }
+
     /**
      * When hologram is spawned
      * this consumer will be called.
@@ -181,6 +198,21 @@ public HologramBuilder whenClicked(@Nonnull BiConsumer<Player, HologramLine> con
         return this;
     }
 
+    /**
+     * When the player click on hologram,
+     * this consumer will be called. Clicks of
+     * the same player in delay are ignored.
+     *
+     * @param consumer Consumer.
+     * @param delay    Delay between clicks as tick.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public HologramBuilder whenClicked(@Nonnull BiConsumer<Player, HologramLine> consumer, long delay) {
+        this.clickDelay = Math.max(0, delay);
+        return this.whenClicked(consumer);
+    }
+
     /**
      * Creates a new Hologram as force.
      *
@@ -203,6 +235,8 @@ public Hologram build() {
 
 
         Hologram hologram = new Hologram(this.id, this.location, this.viewers, this.showEveryone, this.lineDistance);
+        hologram.setPreciseClick(this.preciseClick);
+        hologram.getAction().setClickDelay(this.clickDelay);
         if (this.spawnConsumer != null)
             hologram.whenSpawned(this.spawnConsumer);
         if (this.deleteConsumer != null)
@@ -4,6 +4,7 @@
 import com.hakan.core.hologram.line.empty.EmptyLine;
 import com.hakan.core.hologram.line.item.ItemLine;
 import com.hakan.core.hologram.line.text.TextLine;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -37,8 +38,11 @@ static HologramLine create(@Nonnull Hologram hologram,
         } else if (object instanceof String) {
             String text = (String) object;
             return (text.isEmpty()) ? EmptyLine.create(hologram) : TextLine.create(hologram, text);
+        } else if (object instanceof Text) {
+            Text text = (Text) object;
+            return (text.isEmpty()) ? EmptyLine.create(hologram) : TextLine.create(hologram, text);
         }
-        throw new IllegalArgumentException("value must be String, ItemStack or null!");
+        throw new IllegalArgumentException("value must be String, Text, ItemStack or null!");
     }
 
     /**
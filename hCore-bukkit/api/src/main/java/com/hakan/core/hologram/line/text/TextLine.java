@@ -2,6 +2,7 @@
 
 import com.hakan.core.hologram.Hologram;
 import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
@@ -38,6 +39,34 @@ static TextLine create(@Nonnull Hologram hologram,
     static TextLine create(@Nonnull Hologram hologram,
                            @Nonnull Location location,
                            @Nonnull String text) {
+        return TextLine.create(hologram, location, Text.of(Validate.notNull(text, "text cannot be null!")));
+    }
+
+    /**
+     * Creates new text line.
+     *
+     * @param hologram Hologram of line.
+     * @param text     Text to display.
+     * @return Text line.
+     */
+    @Nonnull
+    static TextLine create(@Nonnull Hologram hologram,
+                           @Nonnull Text text) {
+        return TextLine.create(hologram, hologram.getLocation(), text);
+    }
+
+    /**
+     * Creates new text line.
+     *
+     * @param hologram Hologram of line.
+     * @param location Location of line.
+     * @param text     Text to display.
+     * @return Text line.
+     */
+    @Nonnull
+    static TextLine create(@Nonnull Hologram hologram,
+                           @Nonnull Location location,
+                           @Nonnull Text text) {
         Validate.notNull(hologram, "hologram cannot be null!");
         Validate.notNull(location, "location cannot be null!");
         Validate.notNull(text, "text cannot be null!");
@@ -64,5 +93,16 @@ static TextLine create(@Nonnull Hologram hologram,
      *
      * @param text text of line.
      */
-    void setText(@Nonnull String text);
+    default void setText(@Nonnull String text) {
+        this.setText(Text.of(Validate.notNull(text, "text cannot be null!")));
+    }
+
+    /**
+     * Sets text of line. Component of text
+     * is kept, so same text can be set to many
+     * lines without parsing it again.
+     *
+     * @param text text of line.
+     */
+    void setText(@Nonnull Text text);
 }
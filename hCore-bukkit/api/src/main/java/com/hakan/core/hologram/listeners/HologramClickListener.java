@@ -1,8 +1,9 @@
 package com.hakan.core.hologram.listeners;
 
-import com.hakan.core.HCore;
 import com.hakan.core.hologram.Hologram;
 import com.hakan.core.hologram.HologramHandler;
+import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.hologram.utils.HologramUtils;
 import com.hakan.core.packet.event.PacketEvent;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -10,6 +11,7 @@
 import org.bukkit.event.Listener;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * HologramClickListener class to listen
@@ -19,42 +21,42 @@ public final class HologramClickListener implements Listener {
 
     /**
      * Called when a packet is received.
+     * Clicked line is resolved in the netty
+     * thread by entity id of the clicked entity.
+     * Precise clicks are tested against one snapshot
+     * of lines, so they are safe against concurrent
+     * line changes.
      *
      * @param event PacketEvent.
      */
     @EventHandler
     public void onPacketEvent(@Nonnull PacketEvent event) {
-        Player player = event.getPlayer();
-        Object packet = event.getPacket();
-
-        if (!packet.getClass().getName().contains("PacketPlayInUseEntity"))
+        if (event.getType() != PacketEvent.Type.READ)
+            return;
+        if (!event.getPacket().getClass().getName().contains("PacketPlayInUseEntity"))
             return;
 
-        HCore.asyncScheduler().run(() -> {
-            for (Hologram hologram : HologramHandler.getValues()) {
-                if (hologram.hasLineByEntityID(event.getValue("a"))) {
-                    Location playerLocation = player.getEyeLocation();
-                    Location hologramLocation = hologram.getLocation();
-
-                    double xP = playerLocation.getX();
-                    double zP = playerLocation.getZ();
-                    double xH = hologramLocation.getX();
-                    double zH = hologramLocation.getZ();
-                    double distance = Math.sqrt(Math.pow(xP - xH, 2) + Math.pow(zP - zH, 2));
-
-                    float pitch = -playerLocation.getPitch();
-
-                    double y1 = hologramLocation.getY() + ((hologram.getLines().size() - 1) * hologram.getLineDistance() + 0.24) / 2.0;
-                    double y2 = playerLocation.getY() + distance * Math.tan(Math.toRadians(pitch));
-
-                    int index = (int) Math.floor((y1 - y2) / hologram.getLineDistance());
-                    if (index < 0 || index >= hologram.getLines().size())
-                        break;
+        int entityID = event.getValue("a");
+        HologramLine line = HologramHandler.findLineByEntityID(entityID).orElse(null);
+        if (line == null)
+            return;
 
-                    hologram.getAction().onClick(event.getPlayer(), hologram.getLine(index));
-                    return;
-                }
-            }
-        });
+        Player player = event.getPlayer();
+        Hologram hologram = line.getHologram();
+
+        if (hologram.isPreciseClick()) {
+            Location eye = player.getEyeLocation();
+            Location location = hologram.getLocation();
+            List<HologramLine> lines = hologram.getLines();
+
+            int index = HologramUtils.rayTraceLine(
+                    eye.getX(), eye.getY(), eye.getZ(), eye.getYaw(), eye.getPitch(),
+                    location.getX(), location.getY(), location.getZ(),
+                    lines.size(), hologram.getLineDistance());
+            if (index != -1)
+                line = lines.get(index);
+        }
+
+        hologram.getAction().onClick(player, line);
     }
 }
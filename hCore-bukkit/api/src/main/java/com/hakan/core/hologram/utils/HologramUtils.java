@@ -0,0 +1,79 @@
+package com.hakan.core.hologram.utils;
+
+/**
+ * HologramUtils class to calculate
+ * hologram geometry without allocations.
+ */
+public final class HologramUtils {
+
+    /**
+     * Half width of clickable
+     * area of hologram lines.
+     */
+    public static final double HALF_WIDTH = 0.25;
+
+    /**
+     * Calculates index of the line which eye ray
+     * of the player hits. Ray is intersected with
+     * vertical column of the hologram and line is
+     * found from the height of the entry point.
+     *
+     * @param eyeX         Eye x of player.
+     * @param eyeY         Eye y of player.
+     * @param eyeZ         Eye z of player.
+     * @param yaw          Yaw of player.
+     * @param pitch        Pitch of player.
+     * @param x            X of hologram.
+     * @param y            Y of hologram.
+     * @param z            Z of hologram.
+     * @param lineCount    Line count of hologram.
+     * @param lineDistance Line distance of hologram.
+     * @return Line index, if ray does not hit any line returns -1.
+     */
+    public static int rayTraceLine(double eyeX, double eyeY, double eyeZ,
+                                   float yaw, float pitch,
+                                   double x, double y, double z,
+                                   int lineCount, double lineDistance) {
+        if (lineCount <= 0 || lineDistance <= 0)
+            return -1;
+
+        double yawRad = Math.toRadians(yaw);
+        double pitchRad = Math.toRadians(pitch);
+        double cosPitch = Math.cos(pitchRad);
+        double dirX = -Math.sin(yawRad) * cosPitch;
+        double dirY = -Math.sin(pitchRad);
+        double dirZ = Math.cos(yawRad) * cosPitch;
+
+        double tMin = 0;
+        double tMax = Double.MAX_VALUE;
+
+        if (Math.abs(dirX) < 1.0E-9) {
+            if (eyeX < x - HALF_WIDTH || eyeX > x + HALF_WIDTH)
+                return -1;
+        } else {
+            double t1 = (x - HALF_WIDTH - eyeX) / dirX;
+            double t2 = (x + HALF_WIDTH - eyeX) / dirX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+
+        if (Math.abs(dirZ) < 1.0E-9) {
+            if (eyeZ < z - HALF_WIDTH || eyeZ > z + HALF_WIDTH)
+                return -1;
+        } else {
+            double t1 = (z - HALF_WIDTH - eyeZ) / dirZ;
+            double t2 = (z + HALF_WIDTH - eyeZ) / dirZ;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+
+        if (tMax < tMin)
+            return -1;
+
+        double hitY = eyeY + dirY * tMin;
+        double topY = y + ((lineCount - 1) * lineDistance + 0.24) / 2.0;
+
+        int index = (int) Math.floor((topY - hitY) / lineDistance);
+        return (index < 0 || index >= lineCount) ? -1 : index;
+    }
+}
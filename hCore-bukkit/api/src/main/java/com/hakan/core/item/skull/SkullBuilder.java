@@ -3,6 +3,7 @@
 import com.hakan.core.HCore;
 import com.hakan.core.item.ItemBuilder;
 import com.hakan.core.skin.Skin;
+import com.hakan.core.skin.SkinHandler;
 import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
 import com.mojang.authlib.GameProfile;
@@ -16,8 +17,7 @@
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -28,7 +28,6 @@
 public class SkullBuilder extends ItemBuilder {
 
     private static Material SKULL;
-    private static Map<String, Skin> skullDataMap;
 
     /**
      * Initialize the skull builder class.
@@ -39,27 +38,23 @@ public static void initialize() {
         } catch (Exception e) {
             SKULL = Material.valueOf("SKULL_ITEM");
         }
-        skullDataMap = new HashMap<>();
     }
 
     /**
-     * Gets the skin from map,
+     * Gets the skin from cache,
      * if it doesn't exist, it will
      * get from mojang.
      *
      * @param name Name of the player.
      * @return Skin of the player.
+     * @deprecated blocks the caller until skin is fetched
+     * if it is not cached, use {@link Skin#fromAsync(String)} instead.
      */
     @Nonnull
+    @Deprecated
     public static Skin getOrLoad(@Nonnull String name) {
         Validate.notNull(name, "name cannot be null!");
-
-        if (skullDataMap.containsKey(name))
-            return skullDataMap.get(name);
-
-        Skin skin = Skin.from(name);
-        skullDataMap.put(name, skin);
-        return skin;
+        return SkinHandler.getCached(name).orElseGet(() -> Skin.from(name));
     }
 
 
@@ -160,16 +155,32 @@ public SkullBuilder textureByPlayer(@Nullable Player player) {
     }
 
     /**
-     * Builds skull item stack as async.
+     * Builds skull item stack after skin
+     * of owner is fetched. Consumer is
+     * called on main thread.
      *
      * @param skull Consumer for item stack.
      */
-    public void buildAsync(Consumer<ItemStack> skull) {
-        HCore.asyncScheduler().run(() -> skull.accept(this.build()));
+    public void buildAsync(@Nonnull Consumer<ItemStack> skull) {
+        Validate.notNull(skull, "skull consumer cannot be null!");
+
+        if (this.ownerName == null) {
+            skull.accept(this.build());
+            return;
+        }
+
+        Skin.fromAsync(this.ownerName).whenComplete((skin, error) -> HCore.syncScheduler().run(() -> {
+            if (skin != null) this.texture = skin.getTexture();
+            skull.accept(this.build());
+        }));
     }
 
     /**
-     * Builds skull item stack.
+     * Builds skull item stack. This method never
+     * blocks, if skin of owner is not cached yet,
+     * it is fetched in background and item is
+     * built with current texture. Use
+     * {@link #buildAsync(Consumer)} to wait for skin.
      *
      * @return skull item stack.
      */
@@ -183,8 +194,9 @@ public ItemStack build() {
             SkullMeta skullMeta = (SkullMeta) meta;
 
             if (this.ownerName != null) {
-                Skin skullData = SkullBuilder.getOrLoad(this.ownerName);
-                this.texture = skullData.getTexture();
+                Optional<Skin> cached = SkinHandler.getCached(this.ownerName);
+                if (cached.isPresent()) this.texture = cached.get().getTexture();
+                else Skin.fromAsync(this.ownerName);
             }
 
             if (this.texture != null) {
@@ -8,6 +8,7 @@
 import com.hakan.core.message.bossbar.meta.BarStyle;
 import com.hakan.core.message.bossbar.versions.BossBarEmpty;
 import com.hakan.core.message.bossbar.versions.BossBarImpl;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.message.title.Title;
 import com.hakan.core.message.title.TitleWrapper;
 import com.hakan.core.protocol.ProtocolVersion;
@@ -127,17 +128,38 @@ public static void sendTitle(@Nonnull Collection<Player> players, @Nonnull Strin
      * @param text   Text.
      */
     public static void sendActionBar(@Nonnull Player player, @Nonnull String text) {
+        MessageHandler.sendActionBar(player, Text.of(Validate.notNull(text, "text cannot be null!")));
+    }
+
+    /**
+     * Sends action bar to player.
+     *
+     * @param player Player.
+     * @param text   Text.
+     */
+    public static void sendActionBar(@Nonnull Player player, @Nonnull Text text) {
         actionBarWrapper.send(Validate.notNull(player, "player cannot be null!"), Validate.notNull(text, "text cannot be null!"));
     }
 
     /**
-     * Sends action bar to players.
+     * Sends action bar to players. Text
+     * is parsed once for all players.
      *
      * @param players Players.
      * @param text    Text.
      */
     public static void sendActionBar(@Nonnull Collection<Player> players, @Nonnull String text) {
-        players.forEach(player -> MessageHandler.sendActionBar(player, text));
+        MessageHandler.sendActionBar(players, Text.of(Validate.notNull(text, "text cannot be null!")));
+    }
+
+    /**
+     * Sends action bar to players.
+     *
+     * @param players Players.
+     * @param text    Text.
+     */
+    public static void sendActionBar(@Nonnull Collection<Player> players, @Nonnull Text text) {
+        Validate.notNull(players, "players cannot be null!").forEach(player -> MessageHandler.sendActionBar(player, text));
     }
 
 
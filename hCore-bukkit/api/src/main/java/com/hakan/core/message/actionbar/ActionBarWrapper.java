@@ -1,5 +1,6 @@
 package com.hakan.core.message.actionbar;
 
+import com.hakan.core.message.text.Text;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -15,5 +16,5 @@ public interface ActionBarWrapper {
      * @param player Player.
      * @param text   Text.
      */
-    void send(@Nonnull Player player, @Nonnull String text);
+    void send(@Nonnull Player player, @Nonnull Text text);
 }
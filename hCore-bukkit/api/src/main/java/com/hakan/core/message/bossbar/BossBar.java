@@ -4,6 +4,8 @@
 import com.hakan.core.message.bossbar.meta.BarColor;
 import com.hakan.core.message.bossbar.meta.BarFlag;
 import com.hakan.core.message.bossbar.meta.BarStyle;
+import com.hakan.core.message.text.Text;
+import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -31,6 +33,15 @@ public interface BossBar {
      */
     void setTitle(@Nonnull String title);
 
+    /**
+     * Sets title of bossbar.
+     *
+     * @param title Title of bossbar.
+     */
+    default void setTitle(@Nonnull Text title) {
+        this.setTitle(Validate.notNull(title, "title cannot be null!").getText());
+    }
+
     /**
      * Gets color of bossbar.
      *
@@ -0,0 +1,128 @@
+package com.hakan.core.message.text;
+
+import com.hakan.core.utils.ColorUtil;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Text class to parse a text only once.
+ * Colors are translated when it is created,
+ * NMS component and json of it are created
+ * when they are first used and then kept, so
+ * the same instance can be sent many times
+ * and to many players without parsing again.
+ * <p>
+ * Texts are immutable and can be
+ * shared between threads.
+ */
+public final class Text {
+
+    private static TextWrapper wrapper;
+
+    /**
+     * Creates text from message whose
+     * colors are already translated.
+     *
+     * @param text Text.
+     * @return New instance of Text.
+     */
+    @Nonnull
+    public static Text of(@Nonnull String text) {
+        return new Text(Validate.notNull(text, "text cannot be null!"));
+    }
+
+    /**
+     * Creates text from message and
+     * translates its colors.
+     *
+     * @param text Text.
+     * @return New instance of Text.
+     */
+    @Nonnull
+    public static Text colored(@Nonnull String text) {
+        return new Text(ColorUtil.colored(Validate.notNull(text, "text cannot be null!")));
+    }
+
+
+    private final String text;
+    private volatile Object component;
+    private volatile boolean parsed;
+    private volatile String json;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param text Text.
+     */
+    private Text(@Nonnull String text) {
+        this.text = text;
+    }
+
+    /**
+     * Gets text.
+     *
+     * @return Text.
+     */
+    @Nonnull
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Checks if text is empty.
+     *
+     * @return True if it is empty.
+     */
+    public boolean isEmpty() {
+        return this.text.isEmpty();
+    }
+
+    /**
+     * Gets NMS component of text. It is
+     * created when it is first requested.
+     *
+     * @param <T> Component type.
+     * @return NMS component.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getComponent() {
+        if (!this.parsed) {
+            this.component = Text.getWrapper().toComponent(this.text);
+            this.parsed = true;
+        }
+        return (T) this.component;
+    }
+
+    /**
+     * Gets json component of text. It is
+     * created when it is first requested.
+     *
+     * @return Json.
+     */
+    @Nonnull
+    public String getJson() {
+        String json = this.json;
+        if (json == null)
+            this.json = json = Text.getWrapper().toJson(this.text);
+        return json;
+    }
+
+
+
+    /**
+     * Gets NMS wrapper of texts, it
+     * is created when it is first used.
+     *
+     * @return Text wrapper.
+     */
+    @Nonnull
+    private static TextWrapper getWrapper() {
+        if (wrapper == null)
+            wrapper = ReflectionUtils.newInstance("com.hakan.core.message.text.TextWrapper_%s");
+        return wrapper;
+    }
+}
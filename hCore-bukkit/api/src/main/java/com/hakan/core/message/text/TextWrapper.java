@@ -0,0 +1,40 @@
+package com.hakan.core.message.text;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Text wrapper class.
+ */
+public interface TextWrapper {
+
+    /**
+     * Converts text to NMS component.
+     *
+     * @param text Text.
+     * @return NMS component.
+     */
+    @Nullable
+    Object toComponent(@Nonnull String text);
+
+    /**
+     * Converts text to json component.
+     *
+     * @param text Text.
+     * @return Json.
+     */
+    @Nonnull
+    String toJson(@Nonnull String text);
+
+    /**
+     * Converts text to json component,
+     * keeps line breaks of the text if
+     * line breaks is true.
+     *
+     * @param text       Text.
+     * @param lineBreaks Keep line breaks.
+     * @return Json.
+     */
+    @Nonnull
+    String toJson(@Nonnull String text, boolean lineBreaks);
+}
@@ -1,5 +1,6 @@
 package com.hakan.core.message.title;
 
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
 
 import javax.annotation.Nonnull;
@@ -10,8 +11,8 @@
  */
 public final class Title {
 
-    private String title;
-    private String subtitle;
+    private Text title;
+    private Text subtitle;
     private int stay;
     private int fadein;
     private int fadeout;
@@ -25,7 +26,7 @@ public final class Title {
      * @param fadein   Fade in time as tick.
      * @param fadeout  Fade out time as tick.
      */
-    public Title(@Nonnull String title, @Nonnull String subtitle, int stay, int fadein, int fadeout) {
+    public Title(@Nonnull Text title, @Nonnull Text subtitle, int stay, int fadein, int fadeout) {
         this.title = Validate.notNull(title, "title cannot be null!");
         this.subtitle = Validate.notNull(subtitle, "subtitle cannot be null!");
         this.stay = stay;
@@ -33,6 +34,20 @@ public Title(@Nonnull String title, @Nonnull String subtitle, int stay, int fade
         this.fadeout = fadeout;
     }
 
+    /**
+     * Creates new instance of this class.
+     *
+     * @param title    Title.
+     * @param subtitle Subtitle.
+     * @param stay     Stay time as tick.
+     * @param fadein   Fade in time as tick.
+     * @param fadeout  Fade out time as tick.
+     */
+    public Title(@Nonnull String title, @Nonnull String subtitle, int stay, int fadein, int fadeout) {
+        this(Text.of(Validate.notNull(title, "title cannot be null!")),
+                Text.of(Validate.notNull(subtitle, "subtitle cannot be null!")), stay, fadein, fadeout);
+    }
+
     /**
      * Creates new instance of this class.
      *
@@ -54,6 +69,16 @@ public Title(@Nonnull String title, @Nonnull String subtitle) {
         this(title, subtitle, 60, 4, 4);
     }
 
+    /**
+     * Creates new instance of this class.
+     *
+     * @param title    Title.
+     * @param subtitle Subtitle.
+     */
+    public Title(@Nonnull Text title, @Nonnull Text subtitle) {
+        this(title, subtitle, 60, 4, 4);
+    }
+
     /**
      * Gets title.
      *
@@ -61,6 +86,16 @@ public Title(@Nonnull String title, @Nonnull String subtitle) {
      */
     @Nonnull
     public String getTitle() {
+        return this.title.getText();
+    }
+
+    /**
+     * Gets title as parsed text.
+     *
+     * @return Title.
+     */
+    @Nonnull
+    public Text getTitleText() {
         return this.title;
     }
 
@@ -70,6 +105,15 @@ public String getTitle() {
      * @param title Title.
      */
     public void setTitle(@Nonnull String title) {
+        this.title = Text.of(Validate.notNull(title, "title cannot be null!"));
+    }
+
+    /**
+     * Sets title.
+     *
+     * @param title Title.
+     */
+    public void setTitle(@Nonnull Text title) {
         this.title = Validate.notNull(title, "title cannot be null!");
     }
 
@@ -80,6 +124,16 @@ public void setTitle(@Nonnull String title) {
      */
     @Nonnull
     public String getSubtitle() {
+        return this.subtitle.getText();
+    }
+
+    /**
+     * Gets subtitle as parsed text.
+     *
+     * @return Subtitle.
+     */
+    @Nonnull
+    public Text getSubtitleText() {
         return this.subtitle;
     }
 
@@ -89,6 +143,15 @@ public String getSubtitle() {
      * @param subtitle Subtitle.
      */
     public void setSubtitle(@Nonnull String subtitle) {
+        this.subtitle = Text.of(Validate.notNull(subtitle, "sub title cannot be null!"));
+    }
+
+    /**
+     * Set subtitle.
+     *
+     * @param subtitle Subtitle.
+     */
+    public void setSubtitle(@Nonnull Text subtitle) {
         this.subtitle = Validate.notNull(subtitle, "sub title cannot be null!");
     }
 
@@ -5,8 +5,8 @@
 import com.hakan.core.npc.action.NpcAction;
 import com.hakan.core.npc.entity.NpcEntity;
 import com.hakan.core.npc.utils.NpcUtils;
-import com.hakan.core.pathfinder.Pathfinder;
 import com.hakan.core.renderer.Renderer;
+import com.hakan.core.renderer.RendererHandler;
 import com.hakan.core.skin.Skin;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Location;
@@ -81,6 +81,7 @@ public Npc(@Nonnull String id,
         this.hologram.addLines(Validate.notNull(lines, "lines cannot be null!"));
         this.hologram.showEveryone(showEveryone);
         this.renderer.showEveryone(showEveryone);
+        RendererHandler.register(this.renderer);
         this.action.onSpawn();
 
         this.setLocation(location);
@@ -474,12 +475,26 @@ public Npc setEquipment(@Nonnull EquipmentType equipmentType, @Nonnull ItemStack
     public Npc setLocation(@Nonnull Location location) {
         Validate.notNull(location, "location cannot be null!");
 
-        this.hologram.setLocation(location.clone().add(0, (this.hologram.getLines().size() * this.hologram.getLineDistance() / 2 + 2), 0));
+        this.hologram.setLocation(location.clone().add(0, (this.hologram.getLineCount() * this.hologram.getLineDistance() / 2 + 2), 0));
         this.renderer.setLocation(location);
         this.entity.updateLocation(this.renderer.getShownPlayers());
         return this;
     }
 
+    /**
+     * Moves NPC to location with
+     * relative move packets.
+     *
+     * @param location Location.
+     */
+    void move(@Nonnull Location location) {
+        Location from = this.getLocation();
+
+        this.hologram.setLocation(location.clone().add(0, (this.hologram.getLineCount() * this.hologram.getLineDistance() / 2 + 2), 0));
+        this.renderer.setLocation(location);
+        this.entity.updateMovement(this.renderer.getShownPlayers(), from);
+    }
+
     /**
      * Sets head rotation
      * with yaw and pitch.
@@ -542,27 +557,25 @@ public Npc lookAt(@Nonnull Location location) {
     public Npc walk(@Nonnull Location to, double speed) {
         Validate.notNull(to, "to location cannot be null!");
         Validate.isTrue(this.walking, "NPC is already walking!");
+        Validate.isTrue(speed <= 0, "speed must be bigger than 0!");
         Validate.isTrue(to.getWorld() == null, "to world cannot be null!");
         Validate.isTrue(!to.getWorld().equals(this.getWorld()), "to and from worlds must be equal!");
 
         this.walking = true;
+        NpcWalker.start(this, to, speed / 10);
 
-        Pathfinder pathfinder = new Pathfinder(this.getLocation(), to);
-        Location[] locations = pathfinder.getPath(5);
-        locations[locations.length - 1] = to;
-
-        HCore.asyncScheduler()
-                .limit(locations.length - 1)
-                .terminateIf((task) -> !this.walking)
-                .every((long) (100 / speed), TimeUnit.MILLISECONDS)
-                .whenEnded(() -> this.walking = false)
-                .run((task, count) -> {
-                    Location location = locations[Math.toIntExact(count)];
-                    if (location == null) return;
-
-                    this.setLocation(location);
-                });
+        return this;
+    }
 
+    /**
+     * Stops walking of NPC.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Npc stopWalking() {
+        NpcWalker.stop(this);
+        this.walking = false;
         return this;
     }
 
@@ -599,9 +612,11 @@ public Npc delete() {
         this.hologram.delete();
         this.renderer.delete();
         this.dead = true;
-        this.walking = false;
+        this.stopWalking();
 
-        return this.hide(this.renderer.getShownPlayers());
+        this.hide(this.renderer.getShownPlayers());
+        NpcSpawnHandler.remove(this.entity);
+        return this;
     }
 
 
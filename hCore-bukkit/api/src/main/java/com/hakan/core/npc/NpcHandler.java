@@ -36,14 +36,13 @@ public static void initialize() {
                 .filter(entity -> entity.getHealth() == 2.5179998874664307f)
                 .forEach(Entity::remove));
 
-        HCore.asyncScheduler().every(10)
-                .freezeIf((task) -> npcList.isEmpty())
-                .run(() -> npcList.values().forEach(npc -> npc.getRenderer().render()));
-
         HCore.asyncScheduler().every(1)
                 .freezeIf((task) -> npcList.isEmpty())
                 .freezeIf((task) -> Bukkit.getOnlinePlayers().isEmpty())
                 .run(() -> npcList.values().forEach(npc -> {
+                    if (!npc.getRenderer().isActive() || npc.isWalking())
+                        return;
+
                     if (npc.getLookTarget().equals(Npc.LookTarget.NEAREST)) {
                         Player nearestPlayer = NpcUtils.getNearestPlayer(npc);
                         if (nearestPlayer != null) npc.lookAt(nearestPlayer);
@@ -59,6 +58,9 @@ public static void initialize() {
                     }
                 }));
 
+        NpcWalker.initialize();
+        NpcSpawnHandler.initialize();
+
         NpcClickListener clickListener = ReflectionUtils.newInstance("com.hakan.core.npc.listener.NpcClickListener_%s");
         HCore.registerListeners(clickListener);
     }
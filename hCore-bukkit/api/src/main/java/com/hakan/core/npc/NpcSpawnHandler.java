@@ -0,0 +1,186 @@
+package com.hakan.core.npc;
+
+import com.hakan.core.HCore;
+import com.hakan.core.npc.entity.NpcEntity;
+import com.hakan.core.npc.entity.NpcSpawner;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * NpcSpawnHandler class to batch NPC spawns.
+ * NPCs shown to the same player within a tick
+ * are sent with one player info packet and one
+ * team packet, and their delayed updates are
+ * handled by shared queues instead of tasks.
+ */
+public final class NpcSpawnHandler {
+
+    private static final int LOCATION_DELAY = 2;
+    private static final int INFO_DELAY = 5;
+
+    private static final Map<Player, Set<NpcEntity>> pending = new ConcurrentHashMap<>();
+    private static final Map<Player, Set<Integer>> members = new ConcurrentHashMap<>();
+    private static final Set<Player> teams = ConcurrentHashMap.newKeySet();
+    private static final Queue<Batch> locations = new ConcurrentLinkedQueue<>();
+    private static final Queue<Batch> removals = new ConcurrentLinkedQueue<>();
+
+    private static NpcSpawner spawner;
+    private static long tick = 0;
+
+    /**
+     * Initializes the spawn system.
+     */
+    public static void initialize() {
+        spawner = ReflectionUtils.newInstance("com.hakan.core.npc.entity.NpcSpawner_%s");
+
+        HCore.asyncScheduler().every(1)
+                .freezeIf((task) -> pending.isEmpty() && locations.isEmpty() && removals.isEmpty())
+                .run(NpcSpawnHandler::flush);
+
+        HCore.registerEvent(PlayerQuitEvent.class)
+                .consume(event -> {
+                    pending.remove(event.getPlayer());
+                    members.remove(event.getPlayer());
+                    teams.remove(event.getPlayer());
+                });
+    }
+
+    /**
+     * Queues NPC to show to players
+     * on the next tick.
+     *
+     * @param players Player list.
+     * @param entity  Npc entity.
+     */
+    public static void enqueue(@Nonnull List<Player> players, @Nonnull NpcEntity entity) {
+        Validate.notNull(players, "players cannot be null!");
+        Validate.notNull(entity, "entity cannot be null!");
+
+        for (Player player : players) {
+            pending.compute(player, (key, entities) -> {
+                if (entities == null)
+                    entities = new LinkedHashSet<>();
+                entities.add(entity);
+                return entities;
+            });
+        }
+    }
+
+    /**
+     * Removes NPC from queue
+     * of players.
+     *
+     * @param players Player list.
+     * @param entity  Npc entity.
+     */
+    public static void cancel(@Nonnull List<Player> players, @Nonnull NpcEntity entity) {
+        Validate.notNull(players, "players cannot be null!");
+        Validate.notNull(entity, "entity cannot be null!");
+
+        for (Player player : players) {
+            pending.computeIfPresent(player, (key, entities) -> {
+                entities.remove(entity);
+                return entities.isEmpty() ? null : entities;
+            });
+        }
+    }
+
+    /**
+     * Removes NPC from queues and
+     * team members of all players.
+     *
+     * @param entity Npc entity.
+     */
+    static void remove(@Nonnull NpcEntity entity) {
+        Validate.notNull(entity, "entity cannot be null!");
+
+        for (Player player : pending.keySet()) {
+            pending.computeIfPresent(player, (key, entities) -> {
+                entities.remove(entity);
+                return entities.isEmpty() ? null : entities;
+            });
+        }
+        members.values().forEach(ids -> ids.remove(entity.getID()));
+    }
+
+
+
+    /**
+     * Sends queued spawns and
+     * handles delayed updates.
+     */
+    private static void flush() {
+        long now = ++tick;
+
+        for (Player player : pending.keySet()) {
+            Set<NpcEntity> queued = pending.remove(player);
+            if (queued == null || !player.isOnline())
+                continue;
+
+            List<NpcEntity> entities = new ArrayList<>(queued);
+            Set<Integer> sent = members.computeIfAbsent(player, key -> ConcurrentHashMap.newKeySet());
+
+            List<NpcEntity> joining = new ArrayList<>();
+            for (NpcEntity entity : entities)
+                if (sent.add(entity.getID()))
+                    joining.add(entity);
+
+            List<Player> viewer = Collections.singletonList(player);
+            spawner.addInfo(player, entities);
+            if (!joining.isEmpty())
+                spawner.addTeam(player, joining, teams.add(player));
+            entities.forEach(entity -> entity.spawn(viewer));
+
+            locations.add(new Batch(now + LOCATION_DELAY, player, entities));
+            removals.add(new Batch(now + INFO_DELAY, player, entities));
+        }
+
+        for (Batch batch = locations.peek(); batch != null && batch.due <= now; batch = locations.peek()) {
+            locations.poll();
+            List<Player> viewer = Collections.singletonList(batch.player);
+            batch.entities.forEach(entity -> entity.updateLocation(viewer));
+        }
+
+        for (Batch batch = removals.peek(); batch != null && batch.due <= now; batch = removals.peek()) {
+            removals.poll();
+            spawner.removeInfo(batch.player, batch.entities);
+        }
+    }
+
+    /**
+     * Npc entities which are sent to
+     * a player at the same tick.
+     */
+    private static final class Batch {
+
+        private final long due;
+        private final Player player;
+        private final List<NpcEntity> entities;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param due      Tick to handle.
+         * @param player   Player.
+         * @param entities Npc entities.
+         */
+        private Batch(long due, @Nonnull Player player, @Nonnull List<NpcEntity> entities) {
+            this.due = due;
+            this.player = player;
+            this.entities = entities;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.hakan.core.npc;
+
+import com.hakan.core.HCore;
+import com.hakan.core.pathfinder.HierarchicalPathfinder;
+import com.hakan.core.pathfinder.Pathfinder;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NpcWalker class to move walking NPCs
+ * along their paths. All walkers are driven
+ * by one tick loop, positions are interpolated
+ * every tick and paths are recomputed from the
+ * current position when they are blocked. Paths
+ * are found asynchronously, NPC waits in place
+ * until its path is ready. Far targets are found
+ * with the hierarchical pathfinder.
+ */
+final class NpcWalker {
+
+    private static final int MAX_REPATHS = 5;
+    private static final double HIERARCHICAL_DISTANCE = 48;
+    private static final Map<Npc, NpcWalker> walkers = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes the walker loop.
+     */
+    static void initialize() {
+        HCore.syncScheduler().every(1)
+                .freezeIf((task) -> walkers.isEmpty())
+                .run(() -> walkers.values().removeIf(walker -> !walker.tick()));
+    }
+
+    /**
+     * Starts walking of NPC and
+     * finds its path asynchronously.
+     *
+     * @param npc   Npc.
+     * @param to    Destination location.
+     * @param speed Speed as blocks per tick.
+     */
+    static void start(@Nonnull Npc npc, @Nonnull Location to, double speed) {
+        Validate.notNull(npc, "npc cannot be null!");
+        Validate.notNull(to, "to location cannot be null!");
+
+        NpcWalker walker = new NpcWalker(npc, to, speed);
+        walkers.put(npc, walker);
+        walker.findPath(npc.getLocation());
+    }
+
+    /**
+     * Stops walking of NPC.
+     *
+     * @param npc Npc.
+     */
+    static void stop(@Nonnull Npc npc) {
+        walkers.remove(Validate.notNull(npc, "npc cannot be null!"));
+    }
+
+
+    private final Npc npc;
+    private final Location target;
+    private final double speed;
+
+    private volatile Location[] path;
+    private volatile boolean searching;
+    private int index;
+    private int repaths;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param npc    Npc.
+     * @param target Destination location.
+     * @param speed  Speed as blocks per tick.
+     */
+    private NpcWalker(@Nonnull Npc npc, @Nonnull Location target, double speed) {
+        this.npc = npc;
+        this.target = target.clone();
+        this.speed = speed;
+    }
+
+
+
+    /**
+     * Moves NPC towards its next nodes
+     * as much as its speed lets.
+     *
+     * @return False if walking is ended.
+     */
+    private boolean tick() {
+        if (this.npc.isDead() || !this.npc.isWalking())
+            return false;
+        if (this.searching)
+            return true;
+        if (this.path == null) {
+            this.npc.stopWalking();
+            return false;
+        }
+
+        Location from = this.npc.getLocation();
+        double x = from.getX(), y = from.getY(), z = from.getZ();
+        float yaw = from.getYaw();
+        double budget = this.speed;
+
+        while (budget > 0 && this.index < this.path.length) {
+            Location node = this.path[this.index];
+            if (!NpcWalker.isPassable(node)) {
+                if (++this.repaths > MAX_REPATHS) {
+                    this.npc.stopWalking();
+                    return false;
+                }
+                this.findPath(new Location(from.getWorld(), x, y, z));
+                break;
+            }
+
+            double dx = node.getX() - x;
+            double dy = node.getY() - y;
+            double dz = node.getZ() - z;
+            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (dx != 0 || dz != 0)
+                yaw = (float) -Math.toDegrees(Math.atan2(dx, dz));
+
+            if (distance <= budget) {
+                x = node.getX();
+                y = node.getY();
+                z = node.getZ();
+                budget -= distance;
+                this.index++;
+            } else {
+                x += dx / distance * budget;
+                y += dy / distance * budget;
+                z += dz / distance * budget;
+                budget = 0;
+            }
+        }
+
+        this.npc.move(new Location(from.getWorld(), x, y, z, yaw, 0));
+
+        if (!this.searching && this.index >= this.path.length) {
+            this.npc.stopWalking();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds path from given location to the
+     * target asynchronously and resets progress
+     * when it is found. Path is set to null
+     * if there is no path.
+     *
+     * @param from Start location.
+     */
+    private void findPath(@Nonnull Location from) {
+        double disX = this.target.getX() - from.getX();
+        double disZ = this.target.getZ() - from.getZ();
+        CompletableFuture<Location[]> future = (disX * disX + disZ * disZ > HIERARCHICAL_DISTANCE * HIERARCHICAL_DISTANCE) ?
+                HierarchicalPathfinder.findAsync(from, this.target) : Pathfinder.findAsync(from, this.target);
+
+        this.searching = true;
+        future.whenComplete((locations, error) -> {
+            if (error != null || locations.length == 0) {
+                this.path = null;
+            } else {
+                for (int i = 1; i < locations.length - 1; i++)
+                    locations[i] = locations[i].clone().add(0.5, 0, 0.5);
+                locations[locations.length - 1] = this.target;
+
+                this.index = 1;
+                this.path = locations;
+            }
+            this.searching = false;
+        });
+    }
+
+    /**
+     * Checks if npc can pass
+     * through the location.
+     *
+     * @param location Location.
+     * @return True if passable.
+     */
+    private static boolean isPassable(@Nonnull Location location) {
+        return !location.getBlock().getType().isSolid() &&
+                !location.clone().add(0, 1, 0).getBlock().getType().isSolid();
+    }
+}
@@ -1,8 +1,10 @@
 package com.hakan.core.npc.builder;
 
+import com.hakan.core.HCore;
 import com.hakan.core.npc.Npc;
 import com.hakan.core.npc.NpcHandler;
 import com.hakan.core.skin.Skin;
+import com.hakan.core.skin.SkinHandler;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -16,6 +18,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -30,6 +33,7 @@ public final class NpcBuilder {
     private final String id;
     private Boolean show;
     private Skin skin;
+    private String skinName;
     private Location location;
     private Npc.LookTarget target;
     private Set<UUID> viewers;
@@ -248,18 +252,28 @@ public NpcBuilder whenDeleted(@Nonnull Consumer<Npc> action) {
     @Nonnull
     public NpcBuilder skin(@Nonnull Skin skin) {
         this.skin = Validate.notNull(skin, "skin cannot be null!");
+        this.skinName = null;
         return this;
     }
 
     /**
-     * Sets skin of npc.
+     * Sets skin of npc by player name. If skin
+     * is not cached, npc spawns with current skin
+     * and the fetched skin is applied later.
      *
-     * @param skin Skin.
+     * @param skin Player name.
      * @return NpcBuilder instance.
      */
     @Nonnull
     public NpcBuilder skin(@Nonnull String skin) {
-        return this.skin(Skin.from(skin));
+        Validate.notNull(skin, "skin cannot be null!");
+
+        Optional<Skin> cached = SkinHandler.getCached(skin);
+        if (cached.isPresent())
+            return this.skin(cached.get());
+
+        this.skinName = skin;
+        return this;
     }
 
     /**
@@ -322,6 +336,12 @@ public Npc build() {
             npc.whenDeleted(this.deleteConsumer);
         npc.getAction().setClickDelay(this.clickDelay);
 
+        if (this.skinName != null) {
+            SkinHandler.fetch(this.skinName).thenAccept(skin -> HCore.syncScheduler().run(() -> {
+                if (!npc.isDead()) npc.setSkin(skin);
+            }));
+        }
+
         NpcHandler.getContent().put(this.id, npc);
         return npc;
     }
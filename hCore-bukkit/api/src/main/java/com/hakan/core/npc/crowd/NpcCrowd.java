@@ -0,0 +1,364 @@
+package com.hakan.core.npc.crowd;
+
+import com.hakan.core.npc.crowd.entity.CrowdEntity;
+import com.hakan.core.npc.crowd.utils.CrowdUtils;
+import com.hakan.core.renderer.Renderer;
+import com.hakan.core.renderer.RendererHandler;
+import com.hakan.core.skin.Skin;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NpcCrowd class to show many static
+ * client-side NPCs with one renderer. NPC
+ * data is kept in primitive arrays and there
+ * is no entity, hologram or task per NPC.
+ */
+public final class NpcCrowd {
+
+    private static final AtomicInteger entityIDs = new AtomicInteger(Integer.MAX_VALUE);
+
+    private final String id;
+    private final World world;
+    private final Renderer renderer;
+    private final CrowdEntity entity;
+    private final List<Skin> skins;
+    private final Map<String, Integer> skinIndexes;
+
+    private int size;
+    private int[] entityIds;
+    private long[] mostBits;
+    private long[] leastBits;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private float[] yaws;
+    private float[] pitches;
+    private int[] skinIds;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param id       Crowd id.
+     * @param location Center location.
+     * @param radius   Render radius.
+     */
+    public NpcCrowd(@Nonnull String id, @Nonnull Location location, double radius) {
+        Validate.notNull(location, "location cannot be null!");
+        Validate.isTrue(location.getWorld() == null, "location world cannot be null!");
+
+        this.id = Validate.notNull(id, "id cannot be null!");
+        this.world = location.getWorld();
+        this.skins = new ArrayList<>();
+        this.skinIndexes = new HashMap<>();
+        this.size = 0;
+        this.entityIds = new int[16];
+        this.mostBits = new long[16];
+        this.leastBits = new long[16];
+        this.xs = new double[16];
+        this.ys = new double[16];
+        this.zs = new double[16];
+        this.yaws = new float[16];
+        this.pitches = new float[16];
+        this.skinIds = new int[16];
+
+        this.entity = CrowdUtils.createEntity(this);
+        this.renderer = new Renderer(location, radius, this::show, this::hide, renderer -> this.hide(renderer.getShownPlayers()));
+        RendererHandler.register(this.renderer);
+    }
+
+    /**
+     * Gets id of crowd.
+     *
+     * @return Crowd id.
+     */
+    @Nonnull
+    public String getID() {
+        return this.id;
+    }
+
+    /**
+     * Gets world of crowd.
+     *
+     * @return World.
+     */
+    @Nonnull
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Gets renderer.
+     *
+     * @return Renderer.
+     */
+    @Nonnull
+    public Renderer getRenderer() {
+        return this.renderer;
+    }
+
+    /**
+     * Gets npc count.
+     *
+     * @return Npc count.
+     */
+    public synchronized int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets entity id of npc.
+     *
+     * @param index Npc index.
+     * @return Entity id.
+     */
+    public synchronized int getEntityID(int index) {
+        return this.entityIds[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets uid of npc.
+     *
+     * @param index Npc index.
+     * @return Uid.
+     */
+    @Nonnull
+    public synchronized UUID getUID(int index) {
+        this.checkIndex(index);
+        return new UUID(this.mostBits[index], this.leastBits[index]);
+    }
+
+    /**
+     * Gets location of npc.
+     *
+     * @param index Npc index.
+     * @return Location.
+     */
+    @Nonnull
+    public synchronized Location getLocation(int index) {
+        this.checkIndex(index);
+        return new Location(this.world, this.xs[index], this.ys[index], this.zs[index], this.yaws[index], this.pitches[index]);
+    }
+
+    /**
+     * Gets x coordinate of npc.
+     *
+     * @param index Npc index.
+     * @return X.
+     */
+    public double getX(int index) {
+        return this.xs[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets y coordinate of npc.
+     *
+     * @param index Npc index.
+     * @return Y.
+     */
+    public double getY(int index) {
+        return this.ys[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets z coordinate of npc.
+     *
+     * @param index Npc index.
+     * @return Z.
+     */
+    public double getZ(int index) {
+        return this.zs[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets yaw of npc.
+     *
+     * @param index Npc index.
+     * @return Yaw.
+     */
+    public float getYaw(int index) {
+        return this.yaws[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets pitch of npc.
+     *
+     * @param index Npc index.
+     * @return Pitch.
+     */
+    public float getPitch(int index) {
+        return this.pitches[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets most significant bits of npc uid.
+     *
+     * @param index Npc index.
+     * @return Most significant bits.
+     */
+    public long getMostBits(int index) {
+        return this.mostBits[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets least significant bits of npc uid.
+     *
+     * @param index Npc index.
+     * @return Least significant bits.
+     */
+    public long getLeastBits(int index) {
+        return this.leastBits[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets skin of npc.
+     *
+     * @param index Npc index.
+     * @return Skin.
+     */
+    @Nonnull
+    public synchronized Skin getSkin(int index) {
+        return this.skins.get(this.skinIds[this.checkIndex(index)]);
+    }
+
+    /**
+     * Adds npc to crowd.
+     *
+     * @param location Location.
+     * @param skin     Skin.
+     * @return Index of npc.
+     */
+    public synchronized int add(@Nonnull Location location, @Nonnull Skin skin) {
+        Validate.notNull(location, "location cannot be null!");
+        Validate.notNull(skin, "skin cannot be null!");
+        Validate.isTrue(!this.world.equals(location.getWorld()), "location and crowd worlds must be equal!");
+
+        if (this.size == this.entityIds.length)
+            this.grow(this.size * 2);
+
+        int index = this.size++;
+        UUID uid = UUID.randomUUID();
+        this.entityIds[index] = entityIDs.decrementAndGet();
+        this.mostBits[index] = uid.getMostSignificantBits();
+        this.leastBits[index] = uid.getLeastSignificantBits();
+        this.xs[index] = location.getX();
+        this.ys[index] = location.getY();
+        this.zs[index] = location.getZ();
+        this.yaws[index] = location.getYaw();
+        this.pitches[index] = location.getPitch();
+        this.skinIds[index] = this.skinIndexes.computeIfAbsent(skin.getTexture(), texture -> {
+            this.skins.add(skin);
+            return this.skins.size() - 1;
+        });
+
+        this.entity.show(this.renderer.getShownPlayers(), index, index + 1);
+        return index;
+    }
+
+    /**
+     * Removes npc from crowd. The last
+     * npc takes index of the removed one.
+     *
+     * @param index Npc index.
+     */
+    public synchronized void remove(int index) {
+        this.checkIndex(index);
+        this.entity.hide(this.renderer.getShownPlayers(), index, index + 1);
+
+        int last = --this.size;
+        this.entityIds[index] = this.entityIds[last];
+        this.mostBits[index] = this.mostBits[last];
+        this.leastBits[index] = this.leastBits[last];
+        this.xs[index] = this.xs[last];
+        this.ys[index] = this.ys[last];
+        this.zs[index] = this.zs[last];
+        this.yaws[index] = this.yaws[last];
+        this.pitches[index] = this.pitches[last];
+        this.skinIds[index] = this.skinIds[last];
+    }
+
+    /**
+     * Sets rotation of npc.
+     *
+     * @param index Npc index.
+     * @param yaw   Yaw.
+     * @param pitch Pitch.
+     */
+    public synchronized void setRotation(int index, float yaw, float pitch) {
+        this.checkIndex(index);
+        this.yaws[index] = yaw;
+        this.pitches[index] = pitch;
+        this.entity.updateRotation(this.renderer.getShownPlayers(), index);
+    }
+
+    /**
+     * Shows crowd to players.
+     *
+     * @param players Player list.
+     */
+    public synchronized void show(@Nonnull List<Player> players) {
+        this.entity.show(Validate.notNull(players, "players cannot be null!"), 0, this.size);
+    }
+
+    /**
+     * Hides crowd from players.
+     *
+     * @param players Player list.
+     */
+    public synchronized void hide(@Nonnull List<Player> players) {
+        this.entity.hide(Validate.notNull(players, "players cannot be null!"), 0, this.size);
+    }
+
+    /**
+     * Deletes crowd.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public NpcCrowd delete() {
+        NpcCrowdHandler.getContent().remove(this.id);
+        this.renderer.delete();
+        return this;
+    }
+
+
+
+    /**
+     * Checks if index is in bounds.
+     *
+     * @param index Npc index.
+     * @return Index.
+     */
+    private int checkIndex(int index) {
+        Validate.isTrue(index < 0 || index >= this.size, "index(" + index + ") out of bounds!");
+        return index;
+    }
+
+    /**
+     * Resizes arrays.
+     *
+     * @param capacity New capacity.
+     */
+    private void grow(int capacity) {
+        this.entityIds = Arrays.copyOf(this.entityIds, capacity);
+        this.mostBits = Arrays.copyOf(this.mostBits, capacity);
+        this.leastBits = Arrays.copyOf(this.leastBits, capacity);
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.zs = Arrays.copyOf(this.zs, capacity);
+        this.yaws = Arrays.copyOf(this.yaws, capacity);
+        this.pitches = Arrays.copyOf(this.pitches, capacity);
+        this.skinIds = Arrays.copyOf(this.skinIds, capacity);
+    }
+}
@@ -0,0 +1,101 @@
+package com.hakan.core.npc.crowd;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NpcCrowdHandler class to create
+ * and get NPC crowds.
+ */
+public final class NpcCrowdHandler {
+
+    private static final Map<String, NpcCrowd> crowdList = new ConcurrentHashMap<>();
+
+    /**
+     * Gets content.
+     *
+     * @return crowd map.
+     */
+    @Nonnull
+    public static Map<String, NpcCrowd> getContent() {
+        return crowdList;
+    }
+
+    /**
+     * Gets crowd list as safe.
+     *
+     * @return Crowds.
+     */
+    @Nonnull
+    public static Collection<NpcCrowd> getValuesSafe() {
+        return new ArrayList<>(crowdList.values());
+    }
+
+    /**
+     * Checks if crowd exists.
+     *
+     * @param id Crowd id.
+     * @return True if exists.
+     */
+    public static boolean has(@Nonnull String id) {
+        return crowdList.containsKey(Validate.notNull(id, "id cannot be null!"));
+    }
+
+    /**
+     * Finds a created crowd.
+     *
+     * @param id Crowd id.
+     * @return Crowd as optional.
+     */
+    @Nonnull
+    public static Optional<NpcCrowd> findByID(@Nonnull String id) {
+        return Optional.ofNullable(crowdList.get(Validate.notNull(id, "id cannot be null!")));
+    }
+
+    /**
+     * Gets a created crowd.
+     *
+     * @param id Crowd id.
+     * @return Crowd.
+     */
+    @Nonnull
+    public static NpcCrowd getByID(@Nonnull String id) {
+        return NpcCrowdHandler.findByID(id).orElseThrow(() -> new IllegalArgumentException("crowd with id " + id + " not found!"));
+    }
+
+    /**
+     * Creates a new crowd.
+     *
+     * @param id       Crowd id.
+     * @param location Center location.
+     * @param radius   Render radius.
+     * @return Created crowd.
+     */
+    @Nonnull
+    public static NpcCrowd create(@Nonnull String id, @Nonnull Location location, double radius) {
+        Validate.notNull(id, "id cannot be null!");
+        Validate.isTrue(crowdList.containsKey(id), "crowd with id " + id + " already exists!");
+
+        NpcCrowd crowd = new NpcCrowd(id, location, radius);
+        crowdList.put(id, crowd);
+        return crowd;
+    }
+
+    /**
+     * Deletes a crowd with given id.
+     *
+     * @param id Crowd id.
+     * @return Deleted crowd.
+     */
+    @Nonnull
+    public static NpcCrowd delete(@Nonnull String id) {
+        return NpcCrowdHandler.getByID(id).delete();
+    }
+}
@@ -0,0 +1,35 @@
+package com.hakan.core.npc.crowd.entity;
+
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+public interface CrowdEntity {
+
+    /**
+     * Shows npcs in the index range to players.
+     *
+     * @param players Player list.
+     * @param from    First npc index, inclusive.
+     * @param to      Last npc index, exclusive.
+     */
+    void show(@Nonnull List<Player> players, int from, int to);
+
+    /**
+     * Hides npcs in the index range from players.
+     *
+     * @param players Player list.
+     * @param from    First npc index, inclusive.
+     * @param to      Last npc index, exclusive.
+     */
+    void hide(@Nonnull List<Player> players, int from, int to);
+
+    /**
+     * Updates rotation of npc.
+     *
+     * @param players Player list.
+     * @param index   Npc index.
+     */
+    void updateRotation(@Nonnull List<Player> players, int index);
+}
@@ -0,0 +1,226 @@
+package com.hakan.core.npc.crowd.utils;
+
+import com.hakan.core.npc.crowd.NpcCrowd;
+import com.hakan.core.npc.crowd.entity.CrowdEntity;
+import com.hakan.core.skin.Skin;
+import com.hakan.core.utils.ByteBufUtils;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import io.netty.buffer.ByteBuf;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * CrowdUtils class to create crowd
+ * entity and to write packet contents
+ * of crowd npcs without nms entities.
+ */
+public final class CrowdUtils {
+
+    /**
+     * Creates new CrowdEntity.
+     *
+     * @param crowd Crowd instance.
+     * @return CrowdEntity object.
+     */
+    @Nonnull
+    public static CrowdEntity createEntity(@Nonnull NpcCrowd crowd) {
+        Validate.notNull(crowd, "crowd cannot be null!");
+        return ReflectionUtils.newInstance("com.hakan.core.npc.crowd.entity.CrowdEntity_%s",
+                new Class[]{NpcCrowd.class}, new Object[]{crowd});
+    }
+
+    /**
+     * Gets profile name of crowd npc.
+     *
+     * @param entityId Entity id.
+     * @return Profile name.
+     */
+    @Nonnull
+    public static String getName(int entityId) {
+        return "hc" + Integer.toHexString(entityId);
+    }
+
+    /**
+     * Writes player info add content of
+     * npcs for versions before 1.19.3.
+     *
+     * @param buf       Buffer.
+     * @param crowd     Crowd.
+     * @param from      First npc index, inclusive.
+     * @param to        Last npc index, exclusive.
+     * @param publicKey Writes empty public key if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoAdd(@Nonnull ByteBuf buf, @Nonnull NpcCrowd crowd, int from, int to, boolean publicKey) {
+        ByteBufUtils.writeVarInt(buf, 0);
+        ByteBufUtils.writeVarInt(buf, to - from);
+        for (int i = from; i < to; i++) {
+            CrowdUtils.writeProfile(buf, crowd, i);
+            ByteBufUtils.writeVarInt(buf, 0);
+            ByteBufUtils.writeVarInt(buf, 0);
+            buf.writeBoolean(false);
+            if (publicKey) buf.writeBoolean(false);
+        }
+        return buf;
+    }
+
+    /**
+     * Writes player info update content
+     * of npcs for 1.19.3 and later versions.
+     *
+     * @param buf   Buffer.
+     * @param crowd Crowd.
+     * @param from  First npc index, inclusive.
+     * @param to    Last npc index, exclusive.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoUpdate(@Nonnull ByteBuf buf, @Nonnull NpcCrowd crowd, int from, int to) {
+        buf.writeByte(1);
+        ByteBufUtils.writeVarInt(buf, to - from);
+        for (int i = from; i < to; i++)
+            CrowdUtils.writeProfile(buf, crowd, i);
+        return buf;
+    }
+
+    /**
+     * Writes player info remove content
+     * for versions before 1.19.3.
+     *
+     * @param buf  Buffer.
+     * @param uids Uids.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoRemove(@Nonnull ByteBuf buf, @Nonnull List<UUID> uids) {
+        ByteBufUtils.writeVarInt(buf, 4);
+        ByteBufUtils.writeVarInt(buf, uids.size());
+        for (UUID uid : uids) {
+            buf.writeLong(uid.getMostSignificantBits());
+            buf.writeLong(uid.getLeastSignificantBits());
+        }
+        return buf;
+    }
+
+    /**
+     * Writes named entity spawn content of npc.
+     *
+     * @param buf        Buffer.
+     * @param crowd      Crowd.
+     * @param index      Npc index.
+     * @param legacy     Writes 1.8 fixed point coordinates if true.
+     * @param layerIndex Metadata index of skin layers, -1 to not write metadata.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeSpawn(@Nonnull ByteBuf buf, @Nonnull NpcCrowd crowd, int index, boolean legacy, int layerIndex) {
+        ByteBufUtils.writeVarInt(buf, crowd.getEntityID(index));
+        buf.writeLong(crowd.getMostBits(index));
+        buf.writeLong(crowd.getLeastBits(index));
+        if (legacy) {
+            buf.writeInt((int) Math.floor(crowd.getX(index) * 32));
+            buf.writeInt((int) Math.floor(crowd.getY(index) * 32));
+            buf.writeInt((int) Math.floor(crowd.getZ(index) * 32));
+        } else {
+            buf.writeDouble(crowd.getX(index));
+            buf.writeDouble(crowd.getY(index));
+            buf.writeDouble(crowd.getZ(index));
+        }
+        buf.writeByte(CrowdUtils.toAngle(crowd.getYaw(index)));
+        buf.writeByte(CrowdUtils.toAngle(crowd.getPitch(index)));
+        if (legacy) buf.writeShort(0);
+        if (layerIndex != -1) CrowdUtils.writeLayers(buf, layerIndex, legacy);
+        return buf;
+    }
+
+    /**
+     * Writes entity metadata content
+     * with skin layers of npc.
+     *
+     * @param buf        Buffer.
+     * @param entityId   Entity id.
+     * @param layerIndex Metadata index of skin layers.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeMetadata(@Nonnull ByteBuf buf, int entityId, int layerIndex) {
+        ByteBufUtils.writeVarInt(buf, entityId);
+        return CrowdUtils.writeLayers(buf, layerIndex, false);
+    }
+
+    /**
+     * Writes head rotation content of npc.
+     *
+     * @param buf   Buffer.
+     * @param crowd Crowd.
+     * @param index Npc index.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeHeadRotation(@Nonnull ByteBuf buf, @Nonnull NpcCrowd crowd, int index) {
+        ByteBufUtils.writeVarInt(buf, crowd.getEntityID(index));
+        buf.writeByte(CrowdUtils.toAngle(crowd.getYaw(index)));
+        return buf;
+    }
+
+    /**
+     * Converts degree to protocol angle.
+     *
+     * @param degree Degree.
+     * @return Angle.
+     */
+    public static byte toAngle(float degree) {
+        return (byte) Math.round(degree % 360f * (256f / 360f));
+    }
+
+
+
+
+    /**
+     * Writes game profile of npc.
+     *
+     * @param buf   Buffer.
+     * @param crowd Crowd.
+     * @param index Npc index.
+     */
+    private static void writeProfile(@Nonnull ByteBuf buf, @Nonnull NpcCrowd crowd, int index) {
+        Skin skin = crowd.getSkin(index);
+
+        buf.writeLong(crowd.getMostBits(index));
+        buf.writeLong(crowd.getLeastBits(index));
+        ByteBufUtils.writeString(buf, CrowdUtils.getName(crowd.getEntityID(index)));
+        ByteBufUtils.writeVarInt(buf, 1);
+        ByteBufUtils.writeString(buf, "textures");
+        ByteBufUtils.writeString(buf, skin.getTexture());
+        buf.writeBoolean(true);
+        ByteBufUtils.writeString(buf, skin.getSignature());
+    }
+
+    /**
+     * Writes skin layers metadata
+     * with its end mark.
+     *
+     * @param buf        Buffer.
+     * @param layerIndex Metadata index of skin layers.
+     * @param legacy     Writes 1.8 metadata if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    private static ByteBuf writeLayers(@Nonnull ByteBuf buf, int layerIndex, boolean legacy) {
+        if (legacy) {
+            buf.writeByte(layerIndex & 0x1F);
+            buf.writeByte(127);
+            buf.writeByte(127);
+        } else {
+            buf.writeByte(layerIndex);
+            ByteBufUtils.writeVarInt(buf, 0);
+            buf.writeByte(127);
+            buf.writeByte(0xFF);
+        }
+        return buf;
+    }
+}
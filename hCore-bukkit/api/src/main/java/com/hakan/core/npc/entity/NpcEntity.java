@@ -1,6 +1,7 @@
 package com.hakan.core.npc.entity;
 
 import com.hakan.core.npc.Npc;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -37,6 +38,16 @@ public interface NpcEntity {
      */
     void updateHeadRotation(@Nonnull List<Player> players);
 
+    /**
+     * Moves NPC relatively from given location
+     * to its current location. If distance is too
+     * long for a relative move, teleports instead.
+     *
+     * @param players Player list.
+     * @param from    Previous location.
+     */
+    void updateMovement(@Nonnull List<Player> players, @Nonnull Location from);
+
     /**
      * Updates skin on NPC.
      *
@@ -58,6 +69,14 @@ public interface NpcEntity {
      */
     void show(@Nonnull List<Player> players);
 
+    /**
+     * Spawns NPC to players. Player info
+     * and team of NPC must be sent before.
+     *
+     * @param players Player list.
+     */
+    void spawn(@Nonnull List<Player> players);
+
     /**
      * Hides NPC to players.
      *
@@ -0,0 +1,37 @@
+package com.hakan.core.npc.entity;
+
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+public interface NpcSpawner {
+
+    /**
+     * Sends one player info packet to add
+     * all given NPCs to the player.
+     *
+     * @param player   Player.
+     * @param entities Npc entities.
+     */
+    void addInfo(@Nonnull Player player, @Nonnull List<NpcEntity> entities);
+
+    /**
+     * Sends one player info packet to remove
+     * all given NPCs from the player.
+     *
+     * @param player   Player.
+     * @param entities Npc entities.
+     */
+    void removeInfo(@Nonnull Player player, @Nonnull List<NpcEntity> entities);
+
+    /**
+     * Sends one team packet to hide name
+     * tags of all given NPCs from the player.
+     *
+     * @param player   Player.
+     * @param entities Npc entities.
+     * @param create   Creates team if true, adds to team otherwise.
+     */
+    void addTeam(@Nonnull Player player, @Nonnull List<NpcEntity> entities, boolean create);
+}
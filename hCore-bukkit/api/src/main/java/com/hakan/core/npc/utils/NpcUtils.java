@@ -2,13 +2,16 @@
 
 import com.hakan.core.npc.Npc;
 import com.hakan.core.npc.entity.NpcEntity;
+import com.hakan.core.utils.ByteBufUtils;
 import com.hakan.core.utils.ReflectionUtils;
 import com.hakan.core.utils.Validate;
+import io.netty.buffer.ByteBuf;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collection;
 
 /**
  * NpcUtils class to
@@ -29,6 +32,24 @@ public static NpcEntity createEntity(@Nonnull Npc npc) {
                 new Class[]{Npc.class}, new Object[]{npc});
     }
 
+    /**
+     * Writes team packet content which
+     * adds players to the team.
+     *
+     * @param buf   Buffer.
+     * @param team  Team name.
+     * @param names Player names.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeTeamPlayers(@Nonnull ByteBuf buf, @Nonnull String team, @Nonnull Collection<String> names) {
+        ByteBufUtils.writeString(buf, team);
+        buf.writeByte(3);
+        ByteBufUtils.writeVarInt(buf, names.size());
+        names.forEach(name -> ByteBufUtils.writeString(buf, name));
+        return buf;
+    }
+
     /**
      * Gets the nearest
      * player to npc.
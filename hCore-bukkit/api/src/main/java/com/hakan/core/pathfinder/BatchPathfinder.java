@@ -0,0 +1,240 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * BatchPathfinder class to find many paths
+ * together. Paths to one goal are read from
+ * a single {@link FlowField}, independent paths
+ * are found in parallel and every thread reuses
+ * its own search workspace. Returned paths
+ * are smoothed.
+ */
+public final class BatchPathfinder {
+
+    private static final int SNAPSHOT_MARGIN = 16;
+    private static final PathGrid EMPTY_GRID = (x, y, z) -> PathGrid.SOLID;
+    private static final ThreadLocal<Pathfinder> workspaces = ThreadLocal.withInitial(() -> new Pathfinder(EMPTY_GRID, false, 1));
+
+    /**
+     * Finds paths from locations to the
+     * goal on a worker thread.
+     *
+     * @param starts Start locations.
+     * @param goal   Goal location.
+     * @return Future of the paths in order of start locations.
+     */
+    @Nonnull
+    public static CompletableFuture<List<Location[]>> findAllAsync(@Nonnull List<Location> starts, @Nonnull Location goal) {
+        return BatchPathfinder.findAllAsync(starts, goal, 10000, false, 1);
+    }
+
+    /**
+     * Finds paths from locations to the goal on
+     * a worker thread. Chunks around the locations
+     * are captured on the main thread first, and
+     * the search runs on their snapshots. All
+     * locations must be in the world of the goal.
+     *
+     * @param starts          Start locations.
+     * @param goal            Goal location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return Future of the paths in order of start locations.
+     */
+    @Nonnull
+    public static CompletableFuture<List<Location[]>> findAllAsync(@Nonnull List<Location> starts, @Nonnull Location goal,
+                                                                   int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(starts, "start locations cannot be null!");
+        Validate.notNull(goal, "goal location cannot be null!");
+        World world = Validate.notNull(goal.getWorld(), "goal world cannot be null!");
+
+        List<Location> from = BatchPathfinder.copy(starts, world);
+        Location to = goal.clone();
+
+        List<Location> area = new ArrayList<>(from);
+        area.add(to);
+        return BatchPathfinder.runAsync(world, area,
+                grid -> BatchPathfinder.findAll(grid, from, to, maxNodeTests, canClimbLadders, maxFallDistance));
+    }
+
+    /**
+     * Finds paths from locations to the goal.
+     *
+     * @param grid            Grid to read blocks from.
+     * @param starts          Start locations.
+     * @param goal            Goal location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return The paths in order of start locations.
+     */
+    @Nonnull
+    public static List<Location[]> findAll(@Nonnull PathGrid grid, @Nonnull List<Location> starts, @Nonnull Location goal,
+                                           int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(starts, "start locations cannot be null!");
+
+        FlowField field = new FlowField(grid, goal, maxNodeTests, canClimbLadders, maxFallDistance);
+        return starts.stream().map(field::getPath).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds paths between location pairs
+     * in parallel on worker threads.
+     *
+     * @param starts Start locations.
+     * @param ends   End locations.
+     * @return Future of the paths in order of location pairs.
+     */
+    @Nonnull
+    public static CompletableFuture<List<Location[]>> findAllAsync(@Nonnull List<Location> starts, @Nonnull List<Location> ends) {
+        return BatchPathfinder.findAllAsync(starts, ends, 1000, false, 1);
+    }
+
+    /**
+     * Finds paths between location pairs in
+     * parallel on worker threads. Chunks around
+     * the locations are captured on the main thread
+     * first, and searches run on their snapshots.
+     * All locations must be in the same world.
+     *
+     * @param starts          Start locations.
+     * @param ends            End locations.
+     * @param maxNodeTests    Maximum number of nodes to test for each path.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return Future of the paths in order of location pairs.
+     */
+    @Nonnull
+    public static CompletableFuture<List<Location[]>> findAllAsync(@Nonnull List<Location> starts, @Nonnull List<Location> ends,
+                                                                   int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(starts, "start locations cannot be null!");
+        Validate.notNull(ends, "end locations cannot be null!");
+        Validate.isTrue(starts.size() != ends.size(), "start and end location counts must be equal!");
+        Validate.isTrue(starts.isEmpty(), "locations cannot be empty!");
+
+        World world = Validate.notNull(starts.get(0).getWorld(), "start world cannot be null!");
+        List<Location> from = BatchPathfinder.copy(starts, world);
+        List<Location> to = BatchPathfinder.copy(ends, world);
+
+        List<Location> area = new ArrayList<>(from);
+        area.addAll(to);
+        return BatchPathfinder.runAsync(world, area,
+                grid -> BatchPathfinder.findAll(grid, from, to, maxNodeTests, canClimbLadders, maxFallDistance));
+    }
+
+    /**
+     * Finds paths between location pairs in
+     * parallel. Grid must be safe to read from
+     * many threads, like {@link SnapshotGrid}.
+     *
+     * @param grid            Grid to read blocks from.
+     * @param starts          Start locations.
+     * @param ends            End locations.
+     * @param maxNodeTests    Maximum number of nodes to test for each path.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return The paths in order of location pairs.
+     */
+    @Nonnull
+    public static List<Location[]> findAll(@Nonnull PathGrid grid, @Nonnull List<Location> starts, @Nonnull List<Location> ends,
+                                           int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(grid, "grid cannot be null!");
+        Validate.notNull(starts, "start locations cannot be null!");
+        Validate.notNull(ends, "end locations cannot be null!");
+        Validate.isTrue(starts.size() != ends.size(), "start and end location counts must be equal!");
+
+        Location[][] paths = new Location[starts.size()][];
+        IntStream.range(0, paths.length).parallel().forEach(i -> {
+            Pathfinder workspace = workspaces.get();
+            workspace.configure(grid, canClimbLadders, maxFallDistance);
+            try {
+                paths[i] = BatchPathfinder.find(workspace, starts.get(i), ends.get(i), maxNodeTests);
+            } finally {
+                workspace.configure(EMPTY_GRID, false, 1);
+            }
+        });
+        return Arrays.asList(paths);
+    }
+
+
+
+    /**
+     * Finds path with the workspace.
+     *
+     * @param workspace    Workspace.
+     * @param start        Start location.
+     * @param end          End location.
+     * @param maxNodeTests Maximum number of nodes to test.
+     * @return The paths, empty if not found.
+     */
+    @Nonnull
+    private static Location[] find(@Nonnull Pathfinder workspace, @Nonnull Location start, @Nonnull Location end, int maxNodeTests) {
+        if (start.getWorld() == null || start.getWorld() != end.getWorld())
+            return new Location[0];
+        if (!workspace.canStandAt(start.getBlockX(), start.getBlockY(), start.getBlockZ()) ||
+                !workspace.canStandAt(end.getBlockX(), end.getBlockY(), end.getBlockZ()))
+            return new Location[0];
+
+        workspace.setTarget(end.getX(), end.getY(), end.getZ(), Pathfinder.HEURISTIC_WEIGHT);
+        int n = workspace.search(start.getBlockX(), start.getBlockY(), start.getBlockZ(), maxNodeTests);
+        return (n != -1) ? Pathfinder.toLocations(start.getWorld(), start, workspace.smooth(workspace.trace(n))) : new Location[0];
+    }
+
+    /**
+     * Captures the area around the locations
+     * and runs the search on a worker thread.
+     *
+     * @param world     World.
+     * @param locations Locations.
+     * @param search    Search to run on the captured grid.
+     * @return Future of the paths.
+     */
+    @Nonnull
+    private static CompletableFuture<List<Location[]>> runAsync(@Nonnull World world, @Nonnull List<Location> locations,
+                                                                @Nonnull Function<PathGrid, List<Location[]>> search) {
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (Location location : locations) {
+            minX = Math.min(minX, location.getBlockX());
+            minZ = Math.min(minZ, location.getBlockZ());
+            maxX = Math.max(maxX, location.getBlockX());
+            maxZ = Math.max(maxZ, location.getBlockZ());
+        }
+
+        return Pathfinder.runAsync(world, minX - SNAPSHOT_MARGIN, minZ - SNAPSHOT_MARGIN,
+                maxX + SNAPSHOT_MARGIN, maxZ + SNAPSHOT_MARGIN, search);
+    }
+
+    /**
+     * Copies locations and checks that
+     * they are all in the world.
+     *
+     * @param locations Locations.
+     * @param world     World of the captured area.
+     * @return Copied locations.
+     */
+    @Nonnull
+    private static List<Location> copy(@Nonnull List<Location> locations, @Nonnull World world) {
+        String message = "all locations must be in world " + world.getName() + "!";
+        List<Location> copy = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            Validate.notNull(location, "location cannot be null!");
+            Validate.isTrue(location.getWorld() != world, message);
+            copy.add(location.clone());
+        }
+        return copy;
+    }
+}
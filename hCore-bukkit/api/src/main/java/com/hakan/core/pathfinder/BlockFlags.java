@@ -0,0 +1,89 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.HCore;
+import com.hakan.core.protocol.ProtocolVersion;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * BlockFlags class to convert block
+ * types to path grid flags. Flags of
+ * each type are computed once and shared
+ * between threads.
+ */
+final class BlockFlags {
+
+    private static final boolean LEGACY = HCore.getProtocolVersion().isOlder(ProtocolVersion.v1_13_R1);
+    private static final int[] materials = BlockFlags.createTable(Material.values().length);
+    private static final int[] legacyIds = BlockFlags.createTable(4096);
+
+    private static Method typeIdMethod;
+    private static Method materialMethod;
+
+    /**
+     * Gets flags of material.
+     *
+     * @param material Material.
+     * @return Flags.
+     */
+    static int of(@Nonnull Material material) {
+        int flags = materials[material.ordinal()];
+        if (flags == -1) {
+            flags = (material.isSolid() ? PathGrid.SOLID : 0) | (material == Material.LADDER ? PathGrid.LADDER : 0);
+            materials[material.ordinal()] = flags;
+        }
+        return flags;
+    }
+
+    /**
+     * Gets flags of the block in snapshot.
+     *
+     * @param snapshot Chunk snapshot.
+     * @param x        Block x in chunk.
+     * @param y        Block y.
+     * @param z        Block z in chunk.
+     * @return Flags.
+     */
+    static int of(@Nonnull ChunkSnapshot snapshot, int x, int y, int z) {
+        if (!LEGACY)
+            return BlockFlags.of(snapshot.getBlockType(x, y, z));
+
+        try {
+            if (typeIdMethod == null) {
+                typeIdMethod = ChunkSnapshot.class.getMethod("getBlockTypeId", int.class, int.class, int.class);
+                materialMethod = Material.class.getMethod("getMaterial", int.class);
+            }
+
+            int id = (int) typeIdMethod.invoke(snapshot, x, y, z);
+            int flags = legacyIds[id];
+            if (flags == -1) {
+                Material material = (Material) materialMethod.invoke(null, id);
+                flags = (material != null) ? BlockFlags.of(material) : 0;
+                legacyIds[id] = flags;
+            }
+            return flags;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+
+
+    /**
+     * Creates table which has no
+     * computed flags.
+     *
+     * @param size Size.
+     * @return Table.
+     */
+    @Nonnull
+    private static int[] createTable(int size) {
+        int[] table = new int[size];
+        Arrays.fill(table, -1);
+        return table;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+
+/**
+ * FlowField class to find paths from many
+ * locations to one goal. It runs one reverse
+ * search from the goal, and every reached node
+ * keeps its next step towards the goal, so each
+ * path is read without a new search.
+ */
+public final class FlowField {
+
+    private final World world;
+    private final Pathfinder search;
+
+    /**
+     * Creates flow field of the goal.
+     *
+     * @param grid            Grid to read blocks from.
+     * @param goal            Goal location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    public FlowField(@Nonnull PathGrid grid, @Nonnull Location goal, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(grid, "grid cannot be null!");
+        Validate.notNull(goal, "goal location cannot be null!");
+
+        this.world = goal.getWorld();
+        this.search = new Pathfinder(grid, canClimbLadders, maxFallDistance);
+        this.search.setReverse(true);
+        this.search.setTarget(Double.NaN, Double.NaN, Double.NaN, 0);
+
+        if (this.search.canStandAt(goal.getBlockX(), goal.getBlockY(), goal.getBlockZ()))
+            this.search.search(goal.getBlockX(), goal.getBlockY(), goal.getBlockZ(), maxNodeTests);
+    }
+
+    /**
+     * Checks if goal is reachable
+     * from the location.
+     *
+     * @param location Location.
+     * @return True if reachable.
+     */
+    public boolean isReachable(@Nonnull Location location) {
+        Validate.notNull(location, "location cannot be null!");
+        return location.getWorld() == this.world &&
+                this.search.getNode(location.getBlockX(), location.getBlockY(), location.getBlockZ()) != -1;
+    }
+
+    /**
+     * Returns the smoothed paths
+     * from the location to the goal.
+     *
+     * @param location Start location.
+     * @return The paths, empty if goal is not reachable.
+     */
+    @Nonnull
+    public Location[] getPath(@Nonnull Location location) {
+        if (!this.isReachable(location))
+            return new Location[0];
+
+        long[] positions = this.search.trace(this.search.getNode(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+        for (int i = 0, j = positions.length - 1; i < j; i++, j--) {
+            long position = positions[i];
+            positions[i] = positions[j];
+            positions[j] = position;
+        }
+        return Pathfinder.toLocations(this.world, location, this.search.smooth(positions));
+    }
+}
@@ -0,0 +1,455 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HierarchicalPathfinder class to find long
+ * paths. Every chunk is a cluster, and clusters
+ * are connected by entrances on their borders.
+ * The path is planned over entrances first, and
+ * each step is refined by a search bounded to
+ * one chunk, so node expansions and memory stay
+ * bounded for paths of several hundred blocks.
+ * <p>
+ * Falls and ladders are used only inside
+ * chunks, entrances connect walkable steps.
+ * Returned paths are smoothed.
+ */
+public class HierarchicalPathfinder {
+
+    private static final int SNAPSHOT_MARGIN = 32;
+    private static final int VERTICAL_MARGIN = 32;
+    private static final int LOCAL_NODE_TESTS = 2048;
+
+    /**
+     * Finds path between two locations
+     * on a worker thread.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @return Future of the paths.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findAsync(@Nonnull Location start, @Nonnull Location end) {
+        return HierarchicalPathfinder.findAsync(start, end, 1000, false, 1);
+    }
+
+    /**
+     * Finds path between two locations on a
+     * worker thread. Chunks around the locations
+     * are captured on the main thread first, and
+     * the search runs on their snapshots.
+     *
+     * @param start            Start location.
+     * @param end              End location.
+     * @param maxEntranceTests Maximum number of entrances to test.
+     * @param canClimbLadders  Whether the pathfinder can climb ladders.
+     * @param maxFallDistance  Maximum fall distance.
+     * @return Future of the paths.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findAsync(@Nonnull Location start, @Nonnull Location end,
+                                                          int maxEntranceTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+        Validate.isTrue(start.getWorld() == null, "start world cannot be null!");
+        Validate.isTrue(!start.getWorld().equals(end.getWorld()), "start and end worlds must be equal!");
+
+        Location from = start.clone();
+        Location to = end.clone();
+        return Pathfinder.runAsync(from.getWorld(),
+                Math.min(from.getBlockX(), to.getBlockX()) - SNAPSHOT_MARGIN,
+                Math.min(from.getBlockZ(), to.getBlockZ()) - SNAPSHOT_MARGIN,
+                Math.max(from.getBlockX(), to.getBlockX()) + SNAPSHOT_MARGIN,
+                Math.max(from.getBlockZ(), to.getBlockZ()) + SNAPSHOT_MARGIN,
+                grid -> new HierarchicalPathfinder(grid, from, to, maxEntranceTests, canClimbLadders, maxFallDistance).getPath());
+    }
+
+
+    private final World world;
+    private final Location startLocation;
+    private final Location endLocation;
+    private final int maxEntranceTests;
+    private final Pathfinder search;
+
+    private final Map<Long, List<Transition>> borders = new HashMap<>();
+    private final Map<Long, List<Transition>> clusters = new HashMap<>();
+
+    private int minY;
+    private int maxY;
+
+    /**
+     * HierarchicalPathfinder constructor.
+     *
+     * @param grid             Grid to read blocks from.
+     * @param start            Start location.
+     * @param end              End location.
+     * @param maxEntranceTests Maximum number of entrances to test.
+     * @param canClimbLadders  Whether the pathfinder can climb ladders.
+     * @param maxFallDistance  Maximum fall distance.
+     */
+    public HierarchicalPathfinder(@Nonnull PathGrid grid, @Nonnull Location start, @Nonnull Location end,
+                                  int maxEntranceTests, boolean canClimbLadders, double maxFallDistance) {
+        this.world = Validate.notNull(start, "start location cannot be null!").getWorld();
+        this.startLocation = start;
+        this.endLocation = Validate.notNull(end, "end location cannot be null!");
+        this.maxEntranceTests = maxEntranceTests;
+        this.search = new Pathfinder(grid, canClimbLadders, maxFallDistance);
+    }
+
+    /**
+     * HierarchicalPathfinder constructor. Blocks
+     * are read from the world of start location,
+     * so it must be used on the main thread.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     */
+    public HierarchicalPathfinder(@Nonnull Location start, @Nonnull Location end) {
+        this(new WorldGrid(start.getWorld()), start, end, 1000, false, 1);
+    }
+
+    /**
+     * Returns the smoothed paths.
+     *
+     * @return The paths.
+     */
+    @Nonnull
+    public Location[] getPath() {
+        if (this.world == null || this.world != this.endLocation.getWorld())
+            return new Location[0];
+
+        int startX = this.startLocation.getBlockX();
+        int startY = this.startLocation.getBlockY();
+        int startZ = this.startLocation.getBlockZ();
+        int endX = this.endLocation.getBlockX();
+        int endY = this.endLocation.getBlockY();
+        int endZ = this.endLocation.getBlockZ();
+
+        if (!(this.search.canStandAt(startX, startY, startZ) && this.search.canStandAt(endX, endY, endZ)))
+            return new Location[0];
+
+        this.minY = Math.min(startY, endY) - VERTICAL_MARGIN;
+        this.maxY = Math.max(startY, endY) + VERTICAL_MARGIN;
+
+        long start = Pathfinder.pack(startX, startY, startZ);
+        long end = Pathfinder.pack(endX, endY, endZ);
+
+        List<Long> entrances = this.plan(start, end);
+        if (entrances.isEmpty())
+            return new Location[0];
+
+        List<Long> positions = new ArrayList<>();
+        positions.add(start);
+        for (int i = 1; i < entrances.size(); i++) {
+            long from = entrances.get(i - 1);
+            long to = entrances.get(i);
+
+            if (HierarchicalPathfinder.clusterKey(from) != HierarchicalPathfinder.clusterKey(to)) {
+                positions.add(to);
+                continue;
+            }
+
+            this.bound(from);
+            this.search.setTarget(Pathfinder.unpackX(to), Pathfinder.unpackY(to), Pathfinder.unpackZ(to), Pathfinder.HEURISTIC_WEIGHT);
+            int n = this.search.search(Pathfinder.unpackX(from), Pathfinder.unpackY(from), Pathfinder.unpackZ(from), LOCAL_NODE_TESTS);
+            if (n == -1)
+                return new Location[0];
+
+            long[] steps = this.search.trace(n);
+            for (int j = 1; j < steps.length; j++)
+                positions.add(steps[j]);
+        }
+
+        long[] path = positions.stream().mapToLong(Long::longValue).toArray();
+        return Pathfinder.toLocations(this.world, this.startLocation, this.search.smooth(path));
+    }
+
+
+
+    /**
+     * Plans path over entrances of clusters.
+     *
+     * @param start Packed start position.
+     * @param end   Packed end position.
+     * @return Packed positions from start to end, empty if not found.
+     */
+    @Nonnull
+    private List<Long> plan(long start, long end) {
+        Map<Long, Double> expenses = new HashMap<>();
+        Map<Long, Long> origins = new HashMap<>();
+        Set<Long> checked = new HashSet<>();
+        PriorityQueue<Entry> open = new PriorityQueue<>();
+
+        expenses.put(start, 0d);
+        open.add(new Entry(start, 0));
+
+        while (!open.isEmpty() && checked.size() < this.maxEntranceTests) {
+            long current = open.poll().position;
+            if (!checked.add(current))
+                continue;
+
+            if (current == end) {
+                List<Long> path = new ArrayList<>();
+                for (Long position = end; position != null; position = origins.get(position))
+                    path.add(0, position);
+                return path;
+            }
+
+            double expense = expenses.get(current);
+            long cluster = HierarchicalPathfinder.clusterKey(current);
+            List<Transition> transitions = this.getTransitions(cluster);
+
+            this.bound(current);
+            this.search.setTarget(Double.NaN, Double.NaN, Double.NaN, 0);
+            this.search.search(Pathfinder.unpackX(current), Pathfinder.unpackY(current), Pathfinder.unpackZ(current), LOCAL_NODE_TESTS);
+
+            List<Long> targets = new ArrayList<>();
+            transitions.forEach(transition -> targets.add(transition.from));
+            if (HierarchicalPathfinder.clusterKey(end) == cluster)
+                targets.add(end);
+
+            for (long target : targets) {
+                double cost = this.search.getExpense(Pathfinder.unpackX(target), Pathfinder.unpackY(target), Pathfinder.unpackZ(target));
+                if (target != current && cost != -1)
+                    this.reach(open, expenses, origins, current, target, expense + cost, end);
+            }
+
+            for (Transition transition : transitions)
+                if (transition.from == current)
+                    this.reach(open, expenses, origins, current, transition.to, expense + transition.cost, end);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reaches entrance from origin if
+     * expense is lower than its current one.
+     *
+     * @param open     Open entrances.
+     * @param expenses Expenses of entrances.
+     * @param origins  Origins of entrances.
+     * @param origin   Origin entrance.
+     * @param target   Target entrance.
+     * @param expense  Expense of the target.
+     * @param end      Packed end position.
+     */
+    private void reach(@Nonnull PriorityQueue<Entry> open, @Nonnull Map<Long, Double> expenses, @Nonnull Map<Long, Long> origins,
+                       long origin, long target, double expense, long end) {
+        Double current = expenses.get(target);
+        if (current != null && current <= expense)
+            return;
+
+        expenses.put(target, expense);
+        origins.put(target, origin);
+
+        double disX = Pathfinder.unpackX(target) - Pathfinder.unpackX(end);
+        double disY = Pathfinder.unpackY(target) - Pathfinder.unpackY(end);
+        double disZ = Pathfinder.unpackZ(target) - Pathfinder.unpackZ(end);
+        open.add(new Entry(target, expense + Pathfinder.HEURISTIC_WEIGHT * Math.sqrt(disX * disX + disY * disY + disZ * disZ)));
+    }
+
+    /**
+     * Bounds the search to cluster
+     * of the position.
+     *
+     * @param position Packed position.
+     */
+    private void bound(long position) {
+        int x = Pathfinder.unpackX(position) & ~15;
+        int z = Pathfinder.unpackZ(position) & ~15;
+        this.search.setBounds(x, this.minY, z, x + 15, this.maxY, z + 15);
+    }
+
+    /**
+     * Gets transitions from entrances
+     * of the cluster to its neighbours.
+     *
+     * @param cluster Cluster key.
+     * @return Transitions.
+     */
+    @Nonnull
+    private List<Transition> getTransitions(long cluster) {
+        return this.clusters.computeIfAbsent(cluster, key -> {
+            int chunkX = (int) (key >> 32);
+            int chunkZ = (int) key;
+
+            List<Transition> transitions = new ArrayList<>();
+            transitions.addAll(this.getBorder(chunkX - 1, chunkZ, true, false));
+            transitions.addAll(this.getBorder(chunkX, chunkZ - 1, false, false));
+            transitions.addAll(this.getBorder(chunkX, chunkZ, true, true));
+            transitions.addAll(this.getBorder(chunkX, chunkZ, false, true));
+            return transitions;
+        });
+    }
+
+    /**
+     * Gets transitions on the border between
+     * chunk and its east or south neighbour in
+     * one direction. Steps are tested in that
+     * direction, so a border may be passable
+     * only one way.
+     *
+     * @param chunkX  Chunk x.
+     * @param chunkZ  Chunk z.
+     * @param east    East border if true, south border otherwise.
+     * @param forward From the chunk to the neighbour if true,
+     *                from the neighbour to the chunk otherwise.
+     * @return Transitions.
+     */
+    @Nonnull
+    private List<Transition> getBorder(int chunkX, int chunkZ, boolean east, boolean forward) {
+        long key = (HierarchicalPathfinder.clusterKey(chunkX, chunkZ) << 2) | (forward ? 2 : 0) | (east ? 1 : 0);
+        List<Transition> transitions = this.borders.get(key);
+        if (transitions != null)
+            return transitions;
+
+        transitions = new ArrayList<>();
+        for (int y = this.minY; y <= this.maxY; y++) {
+            int runStart = -1;
+            int runStep = 0;
+
+            for (int i = 0; i <= 16; i++) {
+                int step = (i < 16) ? this.getStep(chunkX, chunkZ, east, forward, i, y) : Integer.MIN_VALUE;
+                if (runStart != -1 && step == runStep)
+                    continue;
+
+                if (runStart != -1) {
+                    int middle = (runStart + i - 1) / 2;
+                    int cx = east ? (chunkX << 4) + 15 : (chunkX << 4) + middle;
+                    int cz = east ? (chunkZ << 4) + middle : (chunkZ << 4) + 15;
+                    int nx = east ? cx + 1 : cx;
+                    int nz = east ? cz : cz + 1;
+                    long from = forward ? Pathfinder.pack(cx, y, cz) : Pathfinder.pack(nx, y, nz);
+                    long to = forward ? Pathfinder.pack(nx, y + runStep, nz) : Pathfinder.pack(cx, y + runStep, cz);
+                    transitions.add(new Transition(from, to, (runStep == 0) ? 1 : 1.4142));
+                }
+
+                runStart = (step != Integer.MIN_VALUE) ? i : -1;
+                runStep = step;
+            }
+        }
+
+        this.borders.put(key, transitions);
+        return transitions;
+    }
+
+    /**
+     * Gets vertical step of walking over the border
+     * from one side to the other.
+     *
+     * @param chunkX  Chunk x.
+     * @param chunkZ  Chunk z.
+     * @param east    East border if true, south border otherwise.
+     * @param forward From the chunk side to the neighbour
+     *                side if true, reverse otherwise.
+     * @param offset  Offset along the border.
+     * @param y       Block y on the starting side.
+     * @return Step, {@link Integer#MIN_VALUE} if it is not walkable.
+     */
+    private int getStep(int chunkX, int chunkZ, boolean east, boolean forward, int offset, int y) {
+        int cx = east ? (chunkX << 4) + 15 : (chunkX << 4) + offset;
+        int cz = east ? (chunkZ << 4) + offset : (chunkZ << 4) + 15;
+        int nx = east ? cx + 1 : cx;
+        int nz = east ? cz : cz + 1;
+
+        int ax = forward ? cx : nx, az = forward ? cz : nz;
+        int bx = forward ? nx : cx, bz = forward ? nz : cz;
+
+        if (!this.search.canStandAt(ax, y, az))
+            return Integer.MIN_VALUE;
+        if (this.search.canStandAt(bx, y, bz))
+            return 0;
+        if (!this.search.isObstructed(ax, y + 2, az) && this.search.canStandAt(bx, y + 1, bz))
+            return 1;
+        if (!this.search.isObstructed(bx, y + 1, bz) && this.search.canStandAt(bx, y - 1, bz))
+            return -1;
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Gets cluster key of position.
+     *
+     * @param position Packed position.
+     * @return Cluster key.
+     */
+    private static long clusterKey(long position) {
+        return HierarchicalPathfinder.clusterKey(Pathfinder.unpackX(position) >> 4, Pathfinder.unpackZ(position) >> 4);
+    }
+
+    /**
+     * Creates cluster key from chunk coordinates.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Cluster key.
+     */
+    private static long clusterKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Walkable step from an entrance
+     * to an entrance of a neighbour cluster.
+     */
+    private static final class Transition {
+
+        private final long from;
+        private final long to;
+        private final double cost;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param from Packed position in the cluster.
+         * @param to   Packed position in the neighbour cluster.
+         * @param cost Cost of the step.
+         */
+        private Transition(long from, long to, double cost) {
+            this.from = from;
+            this.to = to;
+            this.cost = cost;
+        }
+    }
+
+    /**
+     * Open entrance with its score.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        private final long position;
+        private final double score;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param position Packed position.
+         * @param score    Estimated final expense.
+         */
+        private Entry(long position, double score) {
+            this.position = position;
+            this.score = score;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(@Nonnull Entry entry) {
+            return Double.compare(this.score, entry.score);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.hakan.core.pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * LongIntMap class to map packed block
+ * positions to ints without boxing. It is
+ * an open addressing table with linear probing
+ * and does not support removing.
+ */
+final class LongIntMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param capacity Initial capacity, must be power of two.
+     */
+    LongIntMap(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * Gets count of entries.
+     *
+     * @return Entry count.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets value of key.
+     *
+     * @param key          Key.
+     * @param defaultValue Value to return if key does not exist.
+     * @return Value.
+     */
+    int get(long key, int defaultValue) {
+        int mask = this.keys.length - 1;
+        for (int i = LongIntMap.hash(key) & mask; ; i = (i + 1) & mask) {
+            long current = this.keys[i];
+            if (current == key)
+                return this.values[i];
+            if (current == EMPTY)
+                return defaultValue;
+        }
+    }
+
+    /**
+     * Puts value of key.
+     *
+     * @param key   Key.
+     * @param value Value.
+     */
+    void put(long key, int value) {
+        if ((this.size + 1) * 2 > this.keys.length)
+            this.rehash(this.keys.length * 2);
+
+        int mask = this.keys.length - 1;
+        for (int i = LongIntMap.hash(key) & mask; ; i = (i + 1) & mask) {
+            long current = this.keys[i];
+            if (current == key) {
+                this.values[i] = value;
+                return;
+            }
+            if (current == EMPTY) {
+                this.keys[i] = key;
+                this.values[i] = value;
+                this.size++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Clears all entries.
+     */
+    void clear() {
+        Arrays.fill(this.keys, EMPTY);
+        this.size = 0;
+    }
+
+
+
+    /**
+     * Resizes the table.
+     *
+     * @param capacity New capacity.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.size = 0;
+        Arrays.fill(this.keys, EMPTY);
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldKeys[i] != EMPTY)
+                this.put(oldKeys[i], oldValues[i]);
+    }
+
+    /**
+     * Mixes bits of the key.
+     *
+     * @param key Key.
+     * @return Hash.
+     */
+    private static int hash(long key) {
+        key ^= (key >>> 33);
+        key *= 0xff51afd7ed558ccdL;
+        key ^= (key >>> 33);
+        return (int) key;
+    }
+}
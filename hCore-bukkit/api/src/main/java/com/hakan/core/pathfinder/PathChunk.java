@@ -0,0 +1,127 @@
+package com.hakan.core.pathfinder;
+
+import org.bukkit.ChunkSnapshot;
+
+import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * PathChunk class to keep passability
+ * bitmaps of a chunk. Every section is
+ * converted from the chunk snapshot when
+ * it is first read and then shared by
+ * all searches until the chunk changes,
+ * and only changed sections are rebuilt.
+ */
+final class PathChunk {
+
+    private final ChunkSnapshot snapshot;
+    private final int minY;
+    private final int maxY;
+    private final AtomicReferenceArray<long[]> sections;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param snapshot Chunk snapshot.
+     * @param minY     Minimum block y of world.
+     * @param maxY     Maximum block y of world, exclusive.
+     */
+    PathChunk(@Nonnull ChunkSnapshot snapshot, int minY, int maxY) {
+        this.snapshot = snapshot;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.sections = new AtomicReferenceArray<>((maxY - minY + 15) >> 4);
+    }
+
+    /**
+     * Gets section index of block y.
+     *
+     * @param y Block y.
+     * @return Section index, -1 if y is out of world.
+     */
+    int getSection(int y) {
+        return (y < this.minY || y >= this.maxY) ? -1 : (y - this.minY) >> 4;
+    }
+
+    /**
+     * Creates chunk from a newer snapshot of
+     * the same chunk. Bitmaps of sections that
+     * are not changed are kept.
+     *
+     * @param snapshot Newer chunk snapshot.
+     * @param changed  Indexes of changed sections.
+     * @return Refreshed chunk.
+     */
+    @Nonnull
+    PathChunk refresh(@Nonnull ChunkSnapshot snapshot, @Nonnull BitSet changed) {
+        PathChunk chunk = new PathChunk(snapshot, this.minY, this.maxY);
+        for (int i = 0; i < this.sections.length(); i++) {
+            if (!changed.get(i))
+                chunk.sections.set(i, this.sections.get(i));
+        }
+        return chunk;
+    }
+
+    /**
+     * Gets flags of the block at position.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Flags.
+     */
+    int getFlags(int x, int y, int z) {
+        int sectionY = this.getSection(y);
+        if (sectionY == -1)
+            return 0;
+
+        long[] section = this.sections.get(sectionY);
+        if (section == null) {
+            section = this.createSection(sectionY);
+            this.sections.set(sectionY, section);
+        }
+
+        int bit = (((y - this.minY) & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        int word = bit >>> 6;
+        return (int) ((section[word] >>> bit) & 1) * PathGrid.SOLID |
+                (int) ((section[64 + word] >>> bit) & 1) * PathGrid.LADDER;
+    }
+
+
+
+    /**
+     * Creates passability bitmap of
+     * the chunk section. First 64 words
+     * are solid bits, last 64 words are
+     * ladder bits.
+     *
+     * @param sectionY Section index.
+     * @return Bitmap.
+     */
+    @Nonnull
+    private long[] createSection(int sectionY) {
+        long[] section = new long[128];
+        int startY = this.minY + (sectionY << 4);
+        int endY = Math.min(startY + 16, this.maxY);
+
+        for (int y = startY; y < endY; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    int flags = BlockFlags.of(this.snapshot, x, y, z);
+                    if (flags == 0)
+                        continue;
+
+                    int bit = ((y - startY) << 8) | (z << 4) | x;
+                    if ((flags & PathGrid.SOLID) != 0)
+                        section[bit >>> 6] |= 1L << bit;
+                    if ((flags & PathGrid.LADDER) != 0)
+                        section[64 + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+
+        return section;
+    }
+}
@@ -0,0 +1,17 @@
+package com.hakan.core.pathfinder;
+
+public interface PathGrid {
+
+    int SOLID = 1;
+    int LADDER = 2;
+
+    /**
+     * Gets flags of the block at position.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Flags as combination of {@link #SOLID} and {@link #LADDER}.
+     */
+    int getFlags(int x, int y, int z);
+}
@@ -1,55 +1,217 @@
 package com.hakan.core.pathfinder;
 
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
+import org.bukkit.World;
 
-import java.util.ArrayList;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Pathfinder class to find a
  * path between two locations.
+ * <p>
+ * Nodes are stored in primitive arrays,
+ * the open set is a binary heap and
+ * block positions are packed into longs,
+ * so the search does not allocate
+ * objects per node. Blocks are read from
+ * a {@link PathGrid}, which lets searches
+ * run on chunk snapshots asynchronously.
+ * <p>
+ * Nodes are expanded to their cardinal and
+ * diagonal neighbours, diagonal moves cannot
+ * cut corners of obstructed blocks.
  *
  * @author domisum, Hakan(modification)
  * @website <a href="https://github.com/domisum/Pathfinding">https://github.com/domisum/Pathfinding</a>
  */
 public class Pathfinder {
 
-    private final Location startLocation;
-    private final Location endLocation;
+    private static final int SNAPSHOT_MARGIN = 16;
+    static final double HEURISTIC_WEIGHT = 1.5;
 
-    private Node endNode;
-    private final Node startNode;
+    /**
+     * Finds smoothed path between two
+     * locations on a worker thread.
+     *
+     * @param start Start location.
+     * @param end   End location.
+     * @return Future of the paths.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findAsync(@Nonnull Location start, @Nonnull Location end) {
+        return Pathfinder.findAsync(start, end, 1000, false, 1);
+    }
 
-    private boolean pathFound = false;
-    private final ArrayList<Node> checkedNodes = new ArrayList<>();
-    private final ArrayList<Node> uncheckedNodes = new ArrayList<>();
+    /**
+     * Finds smoothed path between two locations
+     * on a worker thread. Chunks around the locations
+     * are captured on the main thread first, and
+     * the search runs on their snapshots.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     * @return Future of the paths.
+     */
+    @Nonnull
+    public static CompletableFuture<Location[]> findAsync(@Nonnull Location start, @Nonnull Location end,
+                                                          int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        Validate.notNull(start, "start location cannot be null!");
+        Validate.notNull(end, "end location cannot be null!");
+        Validate.isTrue(start.getWorld() == null, "start world cannot be null!");
+        Validate.isTrue(!start.getWorld().equals(end.getWorld()), "start and end worlds must be equal!");
+
+        Location from = start.clone();
+        Location to = end.clone();
+        return Pathfinder.runAsync(from.getWorld(),
+                Math.min(from.getBlockX(), to.getBlockX()) - SNAPSHOT_MARGIN,
+                Math.min(from.getBlockZ(), to.getBlockZ()) - SNAPSHOT_MARGIN,
+                Math.max(from.getBlockX(), to.getBlockX()) + SNAPSHOT_MARGIN,
+                Math.max(from.getBlockZ(), to.getBlockZ()) + SNAPSHOT_MARGIN,
+                grid -> new Pathfinder(grid, from, to, maxNodeTests, canClimbLadders, maxFallDistance).getSmoothPath());
+    }
+
+    /**
+     * Captures the area on the main thread
+     * and runs the search on a worker thread.
+     *
+     * @param world  World.
+     * @param minX   Minimum block x.
+     * @param minZ   Minimum block z.
+     * @param maxX   Maximum block x.
+     * @param maxZ   Maximum block z.
+     * @param search Search to run on the captured grid.
+     * @param <T>    Result type.
+     * @return Future of the result.
+     */
+    @Nonnull
+    static <T> CompletableFuture<T> runAsync(@Nonnull World world, int minX, int minZ, int maxX, int maxZ,
+                                             @Nonnull Function<PathGrid, T> search) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        Runnable capture = () -> {
+            try {
+                SnapshotGrid grid = SnapshotGrid.capture(world, minX, minZ, maxX, maxZ);
+
+                HCore.asyncScheduler().run(() -> {
+                    try {
+                        future.complete(search.apply(grid));
+                    } catch (Exception e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        if (Bukkit.isPrimaryThread())
+            capture.run();
+        else
+            HCore.syncScheduler().run(capture);
+
+        return future;
+    }
+
+
+    private PathGrid grid;
+    private final World world;
+    private final Location startLocation;
+    private final Location endLocation;
 
     private final int maxNodeTests;
-    private final boolean canClimbLadders;
-    private final double maxFallDistance;
+    private boolean canClimbLadders;
+    private double maxFallDistance;
+
+    private final LongIntMap nodes = new LongIntMap(1024);
+
+    private double targetX;
+    private double targetY;
+    private double targetZ;
+    private double weight;
+    private boolean reverse;
+    private int minX = Integer.MIN_VALUE;
+    private int minY = Integer.MIN_VALUE;
+    private int minZ = Integer.MIN_VALUE;
+    private int maxX = Integer.MAX_VALUE;
+    private int maxY = Integer.MAX_VALUE;
+    private int maxZ = Integer.MAX_VALUE;
+
+    private int nodeCount;
+    private int[] nodeX = new int[256];
+    private int[] nodeY = new int[256];
+    private int[] nodeZ = new int[256];
+    private int[] origins = new int[256];
+    private double[] expenses = new double[256];
+    private double[] estimates = new double[256];
+    private int[] heapIndexes = new int[256];
+
+    private int heapSize;
+    private int[] heap = new int[256];
 
     /**
      * Pathfinder constructor.
      *
+     * @param grid            Grid to read blocks from.
      * @param start           Start location.
      * @param end             End location.
      * @param maxNodeTests    Maximum number of nodes to test.
      * @param canClimbLadders Whether the pathfinder can climb ladders.
      * @param maxFallDistance Maximum fall distance.
      */
-    public Pathfinder(Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+    public Pathfinder(@Nonnull PathGrid grid, Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        this.grid = Validate.notNull(grid, "grid cannot be null!");
+        this.world = start.getWorld();
         this.endLocation = end;
         this.startLocation = start;
 
-        this.endNode = new Node(this.endLocation, 0, null);
-        this.startNode = new Node(this.startLocation, 0, null);
-
         this.maxNodeTests = maxNodeTests;
         this.canClimbLadders = canClimbLadders;
         this.maxFallDistance = maxFallDistance;
     }
 
+    /**
+     * Creates a search workspace which is
+     * used with {@link #search(int, int, int, int)}.
+     *
+     * @param grid            Grid to read blocks from.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    Pathfinder(@Nonnull PathGrid grid, boolean canClimbLadders, double maxFallDistance) {
+        this.grid = Validate.notNull(grid, "grid cannot be null!");
+        this.world = null;
+        this.endLocation = null;
+        this.startLocation = null;
+
+        this.maxNodeTests = 0;
+        this.canClimbLadders = canClimbLadders;
+        this.maxFallDistance = maxFallDistance;
+    }
+
+    /**
+     * Pathfinder constructor. Blocks are read
+     * from the world of start location, so
+     * it must be used on the main thread.
+     *
+     * @param start           Start location.
+     * @param end             End location.
+     * @param maxNodeTests    Maximum number of nodes to test.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    public Pathfinder(Location start, Location end, int maxNodeTests, boolean canClimbLadders, double maxFallDistance) {
+        this(new WorldGrid(start.getWorld()), start, end, maxNodeTests, canClimbLadders, maxFallDistance);
+    }
+
     /**
      * Pathfinder constructor.
      *
@@ -77,249 +239,692 @@ public Location[] getPath() {
      * @return The paths.
      */
     public Location[] getPath(int slice) {
-        if (!(this.canStandAt(this.startLocation) && this.canStandAt(this.endLocation)))
+        if (this.world == null || this.world != this.endLocation.getWorld())
             return new Location[0];
 
-        this.uncheckedNodes.add(this.startNode);
+        int startX = this.startLocation.getBlockX();
+        int startY = this.startLocation.getBlockY();
+        int startZ = this.startLocation.getBlockZ();
+        int endX = this.endLocation.getBlockX();
+        int endY = this.endLocation.getBlockY();
+        int endZ = this.endLocation.getBlockZ();
 
-        while (this.checkedNodes.size() < this.maxNodeTests && !this.pathFound && this.uncheckedNodes.size() > 0) {
-            Node n = this.uncheckedNodes.get(0);
-            for (Node nt : this.uncheckedNodes)
-                if (nt.getEstimatedFinalExpense() < n.getEstimatedFinalExpense())
-                    n = nt;
-
-            if (n.estimatedExpenseLeft < 1) {
-                this.pathFound = true;
-                this.endNode = n;
-                break;
-            }
-
-            n.getReachableLocations();
-            this.uncheckedNodes.remove(n);
-            this.checkedNodes.add(n);
-        }
+        if (!(this.canStandAt(startX, startY, startZ) && this.canStandAt(endX, endY, endZ)))
+            return new Location[0];
 
-        if (!this.pathFound)
+        this.setTarget(this.endLocation.getX(), this.endLocation.getY(), this.endLocation.getZ(), HEURISTIC_WEIGHT);
+        int endNode = this.search(startX, startY, startZ, this.maxNodeTests);
+        if (endNode == -1)
             return new Location[0];
 
         int length = 1;
-        Node n = this.endNode;
-        while (n.origin != null) {
-            n = n.origin;
+        for (int n = endNode; this.origins[n] != -1; n = this.origins[n])
             length++;
-        }
 
-        Location[] locations = new Location[length];
+        Location[] locations = new Location[(length - 1) * slice + 1];
+        locations[0] = this.startLocation;
 
-        n = this.endNode;
+        int n = endNode;
         for (int i = length - 1; i > 0; i--) {
-            locations[i] = n.getLocation();
-            n = n.origin;
-        }
+            int origin = this.origins[n];
 
-        locations[0] = this.startNode.getLocation();
+            double fromX = (i == 1) ? this.startLocation.getX() : this.nodeX[origin];
+            double fromY = (i == 1) ? this.startLocation.getY() : this.nodeY[origin];
+            double fromZ = (i == 1) ? this.startLocation.getZ() : this.nodeZ[origin];
+            double disX = this.nodeX[n] - fromX;
+            double disY = this.nodeY[n] - fromY;
+            double disZ = this.nodeZ[n] - fromZ;
 
-        Location[] lastLocations = new Location[locations.length * slice];
-        for (int i = 0; i < locations.length; i++) {
-            if (i == locations.length - 1)
-                break;
+            for (int j = 1; j <= slice; j++)
+                locations[(i - 1) * slice + j] = new Location(this.world,
+                        fromX + disX * j / slice, fromY + disY * j / slice, fromZ + disZ * j / slice);
 
-            Location fromLocation = locations[i];
-            Location toLocation = locations[i + 1];
+            n = origin;
+        }
 
-            double disX = toLocation.getX() - fromLocation.getX();
-            double disY = toLocation.getY() - fromLocation.getY();
-            double disZ = toLocation.getZ() - fromLocation.getZ();
+        return locations;
+    }
 
-            for (int j = 0; j < slice; j++) {
-                lastLocations[i * slice + j] = fromLocation.clone().add(disX * j / slice, disY * j / slice, disZ * j / slice);
-            }
-        }
+    /**
+     * Returns the smoothed paths. Nodes which
+     * can be walked in a straight line are
+     * collapsed to one segment.
+     *
+     * @return The paths.
+     */
+    public Location[] getSmoothPath() {
+        if (this.world == null || this.world != this.endLocation.getWorld())
+            return new Location[0];
+
+        int startX = this.startLocation.getBlockX();
+        int startY = this.startLocation.getBlockY();
+        int startZ = this.startLocation.getBlockZ();
+        if (!(this.canStandAt(startX, startY, startZ) && this.canStandAt(this.endLocation.getBlockX(), this.endLocation.getBlockY(), this.endLocation.getBlockZ())))
+            return new Location[0];
+
+        this.setTarget(this.endLocation.getX(), this.endLocation.getY(), this.endLocation.getZ(), HEURISTIC_WEIGHT);
+        int endNode = this.search(startX, startY, startZ, this.maxNodeTests);
+        if (endNode == -1)
+            return new Location[0];
 
-        return lastLocations;
+        return Pathfinder.toLocations(this.world, this.startLocation, this.smooth(this.trace(endNode)));
     }
 
+
+
     /**
-     * Gets node from location.
+     * Sets target of next searches. Search ends
+     * at the first node closer than one block to
+     * the target. With zero weight, search has
+     * no heuristic and only ends when its node
+     * limit is reached or all nodes are tested.
      *
-     * @param loc Location.
-     * @return Node.
+     * @param x      Target x.
+     * @param y      Target y.
+     * @param z      Target z.
+     * @param weight Heuristic weight.
      */
-    private Node getNode(Location loc) {
-        Node test = new Node(loc, 0, null);
-        for (Node n : this.checkedNodes)
-            if (n.id == test.id)
-                return n;
-        return test;
+    void setTarget(double x, double y, double z, double weight) {
+        this.targetX = x;
+        this.targetY = y;
+        this.targetZ = z;
+        this.weight = weight;
     }
 
+    /**
+     * Sets grid and movement options
+     * of next searches.
+     *
+     * @param grid            Grid to read blocks from.
+     * @param canClimbLadders Whether the pathfinder can climb ladders.
+     * @param maxFallDistance Maximum fall distance.
+     */
+    void configure(@Nonnull PathGrid grid, boolean canClimbLadders, double maxFallDistance) {
+        this.grid = grid;
+        this.canClimbLadders = canClimbLadders;
+        this.maxFallDistance = maxFallDistance;
+    }
 
     /**
-     * Returns whether the location is obstructed.
+     * Sets direction of next searches. Reverse
+     * searches expand nodes which can reach the
+     * current node, so origins of nodes point
+     * towards the start of the search.
      *
-     * @param loc Location.
-     * @return Whether the location is obstructed.
+     * @param reverse Reverse.
      */
-    private boolean isObstructed(Location loc) {
-        return loc.getBlock().getType().isSolid();
+    void setReverse(boolean reverse) {
+        this.reverse = reverse;
     }
 
     /**
-     * The location is standable.
+     * Sets block bounds of next searches,
+     * nodes out of the bounds are not reached.
      *
-     * @param loc Location.
-     * @return Whether the location is obstructed.
+     * @param minX Minimum block x.
+     * @param minY Minimum block y.
+     * @param minZ Minimum block z.
+     * @param maxX Maximum block x.
+     * @param maxY Maximum block y.
+     * @param maxZ Maximum block z.
      */
-    private boolean canStandAt(Location loc) {
-        return !(isObstructed(loc) || isObstructed(loc.clone().add(0, 1, 0)) || !isObstructed(loc.clone().add(0, -1, 0)));
+    void setBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
     }
 
     /**
-     * Returns the distance between two locations.
+     * Searches from the position to the target.
      *
-     * @param loc1 Location 1.
-     * @param loc2 Location 2.
-     * @return Distance.
+     * @param startX       Start block x.
+     * @param startY       Start block y.
+     * @param startZ       Start block z.
+     * @param maxNodeTests Maximum number of nodes to test.
+     * @return End node, -1 if the target is not reached.
      */
-    private double distanceTo(Location loc1, Location loc2) {
-        if (loc1.getWorld() != loc2.getWorld())
-            return Double.MAX_VALUE;
+    int search(int startX, int startY, int startZ, int maxNodeTests) {
+        this.reset();
 
-        double disX = loc1.getX() - loc2.getX();
-        double disY = loc1.getY() - loc2.getY();
-        double disZ = loc1.getZ() - loc2.getZ();
+        int startNode = this.addNode(startX, startY, startZ, -1, 0);
+        this.nodes.put(Pathfinder.pack(startX, startY, startZ), startNode);
+        this.push(startNode);
+
+        int checked = 0;
+        while (checked < maxNodeTests && this.heapSize > 0) {
+            int n = this.pop();
+            if (this.distance(n) < 1)
+                return n;
 
-        return Math.sqrt(disX * disX + disY * disY + disZ * disZ);
+            if (this.reverse)
+                this.expandReverse(n);
+            else
+                this.expand(n);
+            checked++;
+        }
+        return -1;
     }
 
+    /**
+     * Gets expense of the position
+     * in the last search.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Expense, -1 if it is not reached.
+     */
+    double getExpense(int x, int y, int z) {
+        int n = this.getNode(x, y, z);
+        return (n != -1) ? this.expenses[n] : -1;
+    }
 
+    /**
+     * Gets node of the position
+     * in the last search.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Node, -1 if it is not reached.
+     */
+    int getNode(int x, int y, int z) {
+        return this.nodes.get(Pathfinder.pack(x, y, z), -1);
+    }
 
     /**
-     * Node class.
+     * Gets packed positions of nodes from
+     * start node to the node, inclusive.
+     *
+     * @param n Node.
+     * @return Packed positions.
      */
-    private class Node {
+    @Nonnull
+    long[] trace(int n) {
+        int length = 1;
+        for (int i = n; this.origins[i] != -1; i = this.origins[i])
+            length++;
 
-        public double id;
-        public Node origin;
-        public double expense;
+        long[] positions = new long[length];
+        for (int i = length - 1; i >= 0; i--, n = this.origins[n])
+            positions[i] = Pathfinder.pack(this.nodeX[n], this.nodeY[n], this.nodeZ[n]);
+        return positions;
+    }
 
-        private final Location location;
-        private double estimatedExpenseLeft = -1;
+    /**
+     * The position is standable.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Whether the position is standable.
+     */
+    boolean canStandAt(int x, int y, int z) {
+        return !this.isObstructed(x, y, z) && !this.isObstructed(x, y + 1, z) && this.isObstructed(x, y - 1, z);
+    }
 
-        /**
-         * Node constructor.
-         *
-         * @param loc     Location.
-         * @param expense Expense.
-         * @param origin  Origin node.
-         */
-        public Node(Location loc, double expense, Node origin) {
-            this.location = loc;
-            this.origin = origin;
-            this.expense = expense;
-            this.id = loc.getBlockX() + 30000000d * loc.getBlockY() + 30000000d * 30000000d * loc.getBlockZ();
-        }
+    /**
+     * Returns whether the position is obstructed.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Whether the position is obstructed.
+     */
+    boolean isObstructed(int x, int y, int z) {
+        return (this.grid.getFlags(x, y, z) & PathGrid.SOLID) != 0;
+    }
 
-        /**
-         * Gets the location.
-         *
-         * @return The location.
-         */
-        public Location getLocation() {
-            return this.location;
+    /**
+     * Collapses positions which can be walked
+     * in a straight line from the last kept
+     * position, so only turns remain.
+     *
+     * @param positions Packed positions.
+     * @return Smoothed packed positions.
+     */
+    @Nonnull
+    long[] smooth(@Nonnull long[] positions) {
+        if (positions.length <= 2)
+            return positions;
+
+        long[] smoothed = new long[positions.length];
+        int size = 0;
+        int anchor = 0;
+
+        smoothed[size++] = positions[0];
+        for (int i = 2; i < positions.length; i++) {
+            if (!this.canWalkStraight(positions[anchor], positions[i])) {
+                smoothed[size++] = positions[i - 1];
+                anchor = i - 1;
+            }
         }
+        smoothed[size++] = positions[positions.length - 1];
 
-        /**
-         * Gets the estimated final expense.
-         *
-         * @return The estimated final expense.
-         */
-        public double getEstimatedFinalExpense() {
-            if (this.estimatedExpenseLeft == -1)
-                this.estimatedExpenseLeft = distanceTo(this.location, endLocation);
+        return Arrays.copyOf(smoothed, size);
+    }
+
+
+
+    /**
+     * Checks if the line between positions on
+     * the same level can be walked. Every block
+     * the line touches must be standable, blocks
+     * beside exact corner crossings included.
+     *
+     * @param from Packed start position.
+     * @param to   Packed end position.
+     * @return True if walkable.
+     */
+    private boolean canWalkStraight(long from, long to) {
+        int y = Pathfinder.unpackY(from);
+        if (y != Pathfinder.unpackY(to))
+            return false;
+
+        int x = Pathfinder.unpackX(from);
+        int z = Pathfinder.unpackZ(from);
+        int dx = Math.abs(Pathfinder.unpackX(to) - x);
+        int dz = Math.abs(Pathfinder.unpackZ(to) - z);
+        int stepX = Integer.signum(Pathfinder.unpackX(to) - x);
+        int stepZ = Integer.signum(Pathfinder.unpackZ(to) - z);
+        int error = dx - dz;
+
+        for (int n = dx + dz; n > 0; n--) {
+            if (error > 0) {
+                x += stepX;
+                error -= 2 * dz;
+            } else if (error < 0) {
+                z += stepZ;
+                error += 2 * dx;
+            } else {
+                if (!this.canStandAt(x + stepX, y, z) || !this.canStandAt(x, y, z + stepZ))
+                    return false;
+
+                x += stepX;
+                z += stepZ;
+                error += 2 * (dx - dz);
+                n--;
+            }
 
-            return this.expense + 1.5 * this.estimatedExpenseLeft;
+            if (!this.canStandAt(x, y, z))
+                return false;
         }
+        return true;
+    }
 
-        /**
-         * Gets the reachable locations.
-         */
-        public void getReachableLocations() {
-            for (int x = -1; x <= 1; x++) {
-                for (int z = -1; z <= 1; z++) {
-                    if (!(x == 0 && z == 0) && x * z == 0) {
-                        Location loc = new Location(Bukkit.getWorlds().get(0), this.location.getBlockX() + x, this.location.getBlockY(), this.location.getBlockZ() + z);
-
-                        if (canStandAt(loc))
-                            reachNode(loc, expense + 1);
-
-                        if (!isObstructed(loc.clone().add(-x, 2, -z))) {
-                            Location nLoc = loc.clone().add(0, 1, 0);
-                            if (canStandAt(nLoc)) reachNode(nLoc, this.expense + 1.4142);
-                        }
+    /**
+     * Returns whether the position has
+     * room for a standing body.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Whether the position is clear.
+     */
+    private boolean isClear(int x, int y, int z) {
+        return !this.isObstructed(x, y, z) && !this.isObstructed(x, y + 1, z);
+    }
 
-                        if (!isObstructed(loc.clone().add(0, 1, 0))) {
-                            Location nLoc = loc.clone().add(0, -1, 0);
-                            if (canStandAt(nLoc)) {
-                                reachNode(nLoc, expense + 1.4142);
-                            } else if (!isObstructed(nLoc) && !isObstructed(nLoc.clone().add(0, 1, 0))) {
-                                int drop = 1;
-                                while (drop <= maxFallDistance && !isObstructed(loc.clone().add(0, -drop, 0))) {
-                                    Location locF = loc.clone().add(0, -drop, 0);
-                                    if (canStandAt(locF)) {
-                                        Node fallNode = addFallNode(loc, expense + 1);
-                                        fallNode.reachNode(locF, expense + drop * 2);
-                                    }
-
-                                    drop++;
-                                }
-                            }
-                        }
+    /**
+     * Clears nodes of previous search.
+     */
+    private void reset() {
+        this.nodes.clear();
+        this.nodeCount = 0;
+        this.heapSize = 0;
+    }
 
-                        if (canClimbLadders) {
-                            if (loc.clone().add(-x, 0, -z).getBlock().getType() == Material.LADDER) {
-                                Location nLoc = loc.clone().add(-x, 0, -z);
-                                int up = 1;
-                                while (nLoc.clone().add(0, up, 0).getBlock().getType() == Material.LADDER) up++;
-                                reachNode(nLoc.clone().add(0, up, 0), expense + up * 2);
-                            }
+    /**
+     * Adds all reachable nodes of node.
+     *
+     * @param n Node.
+     */
+    private void expand(int n) {
+        int cx = this.nodeX[n];
+        int cy = this.nodeY[n];
+        int cz = this.nodeZ[n];
+        double expense = this.expenses[n];
+
+        for (int i = 0; i < 4; i++) {
+            int x = cx + ((i == 0) ? 1 : (i == 1) ? -1 : 0);
+            int z = cz + ((i == 2) ? 1 : (i == 3) ? -1 : 0);
+
+            if (this.canStandAt(x, cy, z))
+                this.reachNode(n, x, cy, z, expense + 1);
+
+            if (!this.isObstructed(cx, cy + 2, cz) && this.canStandAt(x, cy + 1, z))
+                this.reachNode(n, x, cy + 1, z, expense + 1.4142);
+
+            if (!this.isObstructed(x, cy + 1, z)) {
+                if (this.canStandAt(x, cy - 1, z)) {
+                    this.reachNode(n, x, cy - 1, z, expense + 1.4142);
+                } else if (!this.isObstructed(x, cy - 1, z) && !this.isObstructed(x, cy, z)) {
+                    for (int drop = 1; drop <= this.maxFallDistance && !this.isObstructed(x, cy - drop, z); drop++) {
+                        if (this.canStandAt(x, cy - drop, z)) {
+                            int fallNode = this.addNode(x, cy, z, n, expense + 1);
+                            this.reachNode(fallNode, x, cy - drop, z, expense + drop * 2);
                         }
                     }
                 }
             }
         }
 
-        /**
-         * Adds a node that can be reached from this node.
-         *
-         * @param locThere     Location of the node.
-         * @param expenseThere Expense of the node.
-         */
-        public void reachNode(Location locThere, double expenseThere) {
-            Node nt = getNode(locThere);
-
-            if (nt.origin == null && nt != startNode) {
-                nt.expense = expenseThere;
-                nt.origin = this;
-                uncheckedNodes.add(nt);
-                return;
-            }
+        this.expandDiagonals(n);
 
-            if (nt.expense > expenseThere) {
-                nt.expense = expenseThere;
-                nt.origin = this;
+        if (this.canClimbLadders && this.isLadder(cx, cy, cz)) {
+            int up = 1;
+            while (this.isLadder(cx, cy + up, cz)) up++;
+            this.reachNode(n, cx, cy + up, cz, expense + up * 2);
+        }
+    }
+
+    /**
+     * Adds all nodes which can reach the node.
+     *
+     * @param n Node.
+     */
+    private void expandReverse(int n) {
+        int cx = this.nodeX[n];
+        int cy = this.nodeY[n];
+        int cz = this.nodeZ[n];
+        double expense = this.expenses[n];
+
+        for (int i = 0; i < 4; i++) {
+            int x = cx + ((i == 0) ? 1 : (i == 1) ? -1 : 0);
+            int z = cz + ((i == 2) ? 1 : (i == 3) ? -1 : 0);
+
+            if (this.canStandAt(x, cy, z))
+                this.reachNode(n, x, cy, z, expense + 1);
+
+            if (!this.isObstructed(x, cy + 1, z) && this.canStandAt(x, cy - 1, z))
+                this.reachNode(n, x, cy - 1, z, expense + 1.4142);
+
+            if (!this.isObstructed(cx, cy + 2, cz) && this.canStandAt(x, cy + 1, z))
+                this.reachNode(n, x, cy + 1, z, expense + 1.4142);
+
+            for (int drop = 2; drop <= this.maxFallDistance && !this.isObstructed(cx, cy + drop, cz) && !this.isObstructed(cx, cy + drop + 1, cz); drop++) {
+                if (this.canStandAt(x, cy + drop, z)) {
+                    int fallNode = this.addNode(cx, cy + drop, cz, n, expense + drop * 2 - 1);
+                    this.reachNode(fallNode, x, cy + drop, z, expense + drop * 2);
+                }
             }
         }
 
-        /**
-         * Adds a node that represents a fall.
-         *
-         * @param loc     Location of the fall.
-         * @param expense Expense of the fall.
-         * @return Node.
-         */
-        public Node addFallNode(Location loc, double expense) {
-            return new Node(loc, expense, this);
+        this.expandDiagonals(n);
+
+        if (this.canClimbLadders && !this.isLadder(cx, cy, cz)) {
+            for (int down = 1; this.isLadder(cx, cy - down, cz); down++)
+                this.reachNode(n, cx, cy - down, cz, expense + down * 2);
+        }
+    }
+
+    /**
+     * Adds diagonal neighbours of node on the
+     * same level. Both blocks beside the move
+     * must be clear, so corners are not cut.
+     *
+     * @param n Node.
+     */
+    private void expandDiagonals(int n) {
+        int cx = this.nodeX[n];
+        int cy = this.nodeY[n];
+        int cz = this.nodeZ[n];
+
+        for (int i = 0; i < 4; i++) {
+            int dx = (i < 2) ? 1 : -1;
+            int dz = (i % 2 == 0) ? 1 : -1;
+            if (this.canStandAt(cx + dx, cy, cz + dz) && this.isClear(cx + dx, cy, cz) && this.isClear(cx, cy, cz + dz))
+                this.reachNode(n, cx + dx, cy, cz + dz, this.expenses[n] + 1.4142);
+        }
+    }
+
+    /**
+     * Reaches node at the position from origin.
+     *
+     * @param origin  Origin node.
+     * @param x       Block x.
+     * @param y       Block y.
+     * @param z       Block z.
+     * @param expense Expense of the node.
+     */
+    private void reachNode(int origin, int x, int y, int z, double expense) {
+        if (x < this.minX || y < this.minY || z < this.minZ || x > this.maxX || y > this.maxY || z > this.maxZ)
+            return;
+
+        long key = Pathfinder.pack(x, y, z);
+        int n = this.nodes.get(key, -1);
+
+        if (n == -1) {
+            n = this.addNode(x, y, z, origin, expense);
+            this.nodes.put(key, n);
+            this.push(n);
+        } else if (this.expenses[n] > expense) {
+            this.expenses[n] = expense;
+            this.origins[n] = origin;
+            if (this.heapIndexes[n] != -1)
+                this.siftUp(this.heapIndexes[n]);
+        }
+    }
+
+    /**
+     * Adds a node.
+     *
+     * @param x       Block x.
+     * @param y       Block y.
+     * @param z       Block z.
+     * @param origin  Origin node, -1 if none.
+     * @param expense Expense of the node.
+     * @return Node.
+     */
+    private int addNode(int x, int y, int z, int origin, double expense) {
+        if (this.nodeCount == this.nodeX.length) {
+            int capacity = this.nodeCount * 2;
+            this.nodeX = Arrays.copyOf(this.nodeX, capacity);
+            this.nodeY = Arrays.copyOf(this.nodeY, capacity);
+            this.nodeZ = Arrays.copyOf(this.nodeZ, capacity);
+            this.origins = Arrays.copyOf(this.origins, capacity);
+            this.expenses = Arrays.copyOf(this.expenses, capacity);
+            this.estimates = Arrays.copyOf(this.estimates, capacity);
+            this.heapIndexes = Arrays.copyOf(this.heapIndexes, capacity);
         }
+
+        int n = this.nodeCount++;
+        this.nodeX[n] = x;
+        this.nodeY[n] = y;
+        this.nodeZ[n] = z;
+        this.origins[n] = origin;
+        this.expenses[n] = expense;
+        this.estimates[n] = -1;
+        this.heapIndexes[n] = -1;
+        return n;
+    }
+
+    /**
+     * Gets distance of node to end location.
+     *
+     * @param n Node.
+     * @return Distance.
+     */
+    private double distance(int n) {
+        if (this.estimates[n] == -1) {
+            double disX = this.nodeX[n] - this.targetX;
+            double disY = this.nodeY[n] - this.targetY;
+            double disZ = this.nodeZ[n] - this.targetZ;
+            this.estimates[n] = Math.sqrt(disX * disX + disY * disY + disZ * disZ);
+        }
+        return this.estimates[n];
+    }
+
+    /**
+     * Gets the estimated final expense of node.
+     *
+     * @param n Node.
+     * @return The estimated final expense.
+     */
+    private double score(int n) {
+        return (this.weight == 0) ? this.expenses[n] : this.expenses[n] + this.weight * this.distance(n);
+    }
+
+    /**
+     * Adds node to the open set.
+     *
+     * @param n Node.
+     */
+    private void push(int n) {
+        if (this.heapSize == this.heap.length)
+            this.heap = Arrays.copyOf(this.heap, this.heapSize * 2);
+
+        this.heap[this.heapSize] = n;
+        this.heapIndexes[n] = this.heapSize;
+        this.siftUp(this.heapSize++);
+    }
+
+    /**
+     * Removes node with the lowest
+     * score from the open set.
+     *
+     * @return Node.
+     */
+    private int pop() {
+        int n = this.heap[0];
+        this.heapIndexes[n] = -1;
+
+        if (--this.heapSize > 0) {
+            this.heap[0] = this.heap[this.heapSize];
+            this.heapIndexes[this.heap[0]] = 0;
+            this.siftDown(0);
+        }
+        return n;
+    }
+
+    /**
+     * Moves heap entry up until
+     * its parent has lower score.
+     *
+     * @param index Heap index.
+     */
+    private void siftUp(int index) {
+        int n = this.heap[index];
+        double score = this.score(n);
+
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = this.heap[parentIndex];
+            if (this.score(parent) <= score)
+                break;
+
+            this.heap[index] = parent;
+            this.heapIndexes[parent] = index;
+            index = parentIndex;
+        }
+
+        this.heap[index] = n;
+        this.heapIndexes[n] = index;
+    }
+
+    /**
+     * Moves heap entry down until
+     * its children have higher score.
+     *
+     * @param index Heap index.
+     */
+    private void siftDown(int index) {
+        int n = this.heap[index];
+        double score = this.score(n);
+
+        while (true) {
+            int childIndex = index * 2 + 1;
+            if (childIndex >= this.heapSize)
+                break;
+            if (childIndex + 1 < this.heapSize && this.score(this.heap[childIndex + 1]) < this.score(this.heap[childIndex]))
+                childIndex++;
+
+            int child = this.heap[childIndex];
+            if (this.score(child) >= score)
+                break;
+
+            this.heap[index] = child;
+            this.heapIndexes[child] = index;
+            index = childIndex;
+        }
+
+        this.heap[index] = n;
+        this.heapIndexes[n] = index;
+    }
+
+    /**
+     * Returns whether the position is ladder.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Whether the position is ladder.
+     */
+    private boolean isLadder(int x, int y, int z) {
+        return (this.grid.getFlags(x, y, z) & PathGrid.LADDER) != 0;
+    }
+
+    /**
+     * Creates locations of packed positions,
+     * first location is the start location.
+     *
+     * @param world     World.
+     * @param start     Start location.
+     * @param positions Packed positions from start.
+     * @return Locations.
+     */
+    @Nonnull
+    static Location[] toLocations(@Nonnull World world, @Nonnull Location start, @Nonnull long[] positions) {
+        Location[] locations = new Location[positions.length];
+        locations[0] = start;
+        for (int i = 1; i < positions.length; i++)
+            locations[i] = new Location(world, Pathfinder.unpackX(positions[i]),
+                    Pathfinder.unpackY(positions[i]), Pathfinder.unpackZ(positions[i]));
+        return locations;
+    }
+
+    /**
+     * Packs block position to long.
+     *
+     * @param x Block x.
+     * @param y Block y.
+     * @param z Block z.
+     * @return Packed position.
+     */
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Gets block x of packed position.
+     *
+     * @param key Packed position.
+     * @return Block x.
+     */
+    static int unpackX(long key) {
+        return (int) (key >> 38);
+    }
+
+    /**
+     * Gets block y of packed position.
+     *
+     * @param key Packed position.
+     * @return Block y.
+     */
+    static int unpackY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    /**
+     * Gets block z of packed position.
+     *
+     * @param key Packed position.
+     * @return Block z.
+     */
+    static int unpackZ(long key) {
+        return (int) (key << 26 >> 38);
     }
 }
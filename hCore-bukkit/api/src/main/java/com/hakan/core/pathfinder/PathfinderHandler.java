@@ -0,0 +1,311 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.HCore;
+import com.hakan.core.protocol.ProtocolVersion;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PathfinderHandler class to cache passability
+ * bitmaps of chunks between path searches.
+ * Block changes are collected during a tick
+ * and only changed sections of cached chunks
+ * are rebuilt on the next tick, chunks are
+ * dropped when they are unloaded.
+ * <p>
+ * Blocks changed by plugins without events
+ * must be invalidated with {@link #invalidate(Block)}.
+ */
+public final class PathfinderHandler {
+
+    private static final Map<String, Map<Long, PathChunk>> chunks = new ConcurrentHashMap<>();
+    private static final Map<World, Map<Long, BitSet>> changes = new HashMap<>();
+    private static final Set<Block> physics = new HashSet<>();
+
+    /**
+     * Initializes the pathfinder cache.
+     */
+    public static void initialize() {
+        HCore.registerEvent(BlockPlaceEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(BlockBreakEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(BlockPhysicsEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queuePhysics(event.getBlock()));
+
+        HCore.registerEvent(BlockBurnEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(BlockFadeEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(BlockFormEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(LeavesDecayEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(EntityChangeBlockEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> PathfinderHandler.queue(event.getBlock()));
+
+        HCore.registerEvent(BlockExplodeEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> event.blockList().forEach(PathfinderHandler::queue));
+
+        HCore.registerEvent(EntityExplodeEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> event.blockList().forEach(PathfinderHandler::queue));
+
+        HCore.registerEvent(BlockPistonExtendEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> {
+                    PathfinderHandler.queue(event.getBlock().getRelative(event.getDirection()));
+                    event.getBlocks().forEach(block -> {
+                        PathfinderHandler.queue(block);
+                        PathfinderHandler.queue(block.getRelative(event.getDirection()));
+                    });
+                });
+
+        HCore.registerEvent(BlockPistonRetractEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> {
+                    PathfinderHandler.queue(event.getBlock().getRelative(event.getDirection()));
+                    event.getBlocks().forEach(block -> {
+                        PathfinderHandler.queue(block);
+                        PathfinderHandler.queue(block.getRelative(event.getDirection()));
+                        PathfinderHandler.queue(block.getRelative(event.getDirection().getOppositeFace()));
+                    });
+                });
+
+        HCore.registerEvent(ChunkUnloadEvent.class)
+                .consume(event -> PathfinderHandler.invalidate(event.getWorld(), event.getChunk().getX(), event.getChunk().getZ()));
+
+        HCore.registerEvent(WorldUnloadEvent.class)
+                .consume(event -> {
+                    chunks.remove(event.getWorld().getName());
+                    changes.remove(event.getWorld());
+                    physics.removeIf(block -> block.getWorld().equals(event.getWorld()));
+                });
+
+        HCore.syncScheduler().every(1)
+                .freezeIf((task) -> changes.isEmpty() && physics.isEmpty())
+                .run(PathfinderHandler::refresh);
+    }
+
+    /**
+     * Invalidates cached chunk of the block.
+     *
+     * @param block Block.
+     */
+    public static void invalidate(@Nonnull Block block) {
+        Validate.notNull(block, "block cannot be null!");
+        PathfinderHandler.invalidate(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    /**
+     * Invalidates cached chunks of the blocks.
+     *
+     * @param blocks Blocks.
+     */
+    public static void invalidate(@Nonnull Collection<Block> blocks) {
+        Validate.notNull(blocks, "blocks cannot be null!");
+        blocks.forEach(PathfinderHandler::invalidate);
+    }
+
+    /**
+     * Invalidates cached chunk.
+     *
+     * @param world  World.
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     */
+    public static void invalidate(@Nonnull World world, int chunkX, int chunkZ) {
+        Validate.notNull(world, "world cannot be null!");
+
+        Map<Long, PathChunk> worldChunks = chunks.get(world.getName());
+        if (worldChunks != null)
+            worldChunks.remove(PathfinderHandler.chunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Clears all cached chunks.
+     */
+    public static void clear() {
+        chunks.clear();
+    }
+
+    /**
+     * Gets cached chunk or captures it. Chunk
+     * is captured only on the main thread, on other
+     * threads null is returned if it is not cached.
+     *
+     * @param world   World.
+     * @param chunkX  Chunk x.
+     * @param chunkZ  Chunk z.
+     * @param capture Captures the chunk if it is not cached.
+     * @return Chunk, null if it is not cached and not captured.
+     */
+    @Nullable
+    static PathChunk getChunk(@Nonnull World world, int chunkX, int chunkZ, boolean capture) {
+        Map<Long, PathChunk> worldChunks = chunks.computeIfAbsent(world.getName(), k -> new ConcurrentHashMap<>());
+        long key = PathfinderHandler.chunkKey(chunkX, chunkZ);
+
+        PathChunk chunk = worldChunks.get(key);
+        if (chunk == null && capture) {
+            chunk = new PathChunk(world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false),
+                    PathfinderHandler.getMinHeight(world), world.getMaxHeight());
+            worldChunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+
+
+    /**
+     * Queues section of the block to be
+     * rebuilt on the next tick if its
+     * chunk is cached.
+     *
+     * @param block Block.
+     */
+    private static void queue(@Nonnull Block block) {
+        World world = block.getWorld();
+        int chunkX = block.getX() >> 4, chunkZ = block.getZ() >> 4;
+
+        PathChunk chunk = PathfinderHandler.getCached(world, chunkX, chunkZ);
+        int section = (chunk != null) ? chunk.getSection(block.getY()) : -1;
+        if (section != -1) {
+            changes.computeIfAbsent(world, k -> new HashMap<>())
+                    .computeIfAbsent(PathfinderHandler.chunkKey(chunkX, chunkZ), k -> new BitSet())
+                    .set(section);
+        }
+    }
+
+    /**
+     * Queues block updated by physics. It
+     * is checked on the next tick, and its
+     * section is rebuilt only if its type
+     * changed in a way that matters for paths.
+     *
+     * @param block Block.
+     */
+    private static void queuePhysics(@Nonnull Block block) {
+        if (PathfinderHandler.getCached(block.getWorld(), block.getX() >> 4, block.getZ() >> 4) != null)
+            physics.add(block);
+    }
+
+    /**
+     * Rebuilds changed sections of
+     * cached chunks from new snapshots.
+     */
+    private static void refresh() {
+        for (Block block : physics) {
+            PathChunk chunk = PathfinderHandler.getCached(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+            if (chunk != null && chunk.getFlags(block.getX(), block.getY(), block.getZ()) != BlockFlags.of(block.getType()))
+                PathfinderHandler.queue(block);
+        }
+        physics.clear();
+
+        changes.forEach((world, worldChanges) -> {
+            Map<Long, PathChunk> worldChunks = chunks.get(world.getName());
+            if (worldChunks == null)
+                return;
+
+            worldChanges.forEach((key, sections) -> {
+                int chunkX = (int) (key >> 32), chunkZ = key.intValue();
+                PathChunk chunk = worldChunks.get(key);
+                if (chunk == null)
+                    return;
+
+                if (!world.isChunkLoaded(chunkX, chunkZ)) worldChunks.remove(key);
+                else worldChunks.put(key, chunk.refresh(world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false), sections));
+            });
+        });
+        changes.clear();
+    }
+
+    /**
+     * Gets cached chunk without capturing it.
+     *
+     * @param world  World.
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Chunk, null if it is not cached.
+     */
+    @Nullable
+    private static PathChunk getCached(@Nonnull World world, int chunkX, int chunkZ) {
+        Map<Long, PathChunk> worldChunks = chunks.get(world.getName());
+        return (worldChunks != null) ? worldChunks.get(PathfinderHandler.chunkKey(chunkX, chunkZ)) : null;
+    }
+
+    /**
+     * Gets minimum block y of world.
+     *
+     * @param world World.
+     * @return Minimum block y.
+     */
+    private static int getMinHeight(@Nonnull World world) {
+        return HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_17_R1) ?
+                ReflectionUtils.<Integer>invoke(world, "getMinHeight") : 0;
+    }
+
+    /**
+     * Creates chunk key from chunk coordinates.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Chunk key.
+     */
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hakan.core.pathfinder;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+
+/**
+ * SnapshotGrid class to read block flags
+ * from chunk snapshots. Snapshots are captured
+ * on the main thread, or taken from the cache of
+ * {@link PathfinderHandler}, and every chunk section
+ * is converted to a passability bitmap when it is
+ * first read, so searches can run on any thread.
+ * <p>
+ * Blocks of unloaded or not captured
+ * chunks are solid.
+ */
+public final class SnapshotGrid implements PathGrid {
+
+    /**
+     * Captures snapshots of loaded chunks in the
+     * area. It must be called on the main thread.
+     *
+     * @param world World.
+     * @param minX  Minimum block x.
+     * @param minZ  Minimum block z.
+     * @param maxX  Maximum block x.
+     * @param maxZ  Maximum block z.
+     * @return Captured grid.
+     */
+    @Nonnull
+    public static SnapshotGrid capture(@Nonnull World world, int minX, int minZ, int maxX, int maxZ) {
+        Validate.notNull(world, "world cannot be null!");
+        Validate.isTrue(minX > maxX || minZ > maxZ, "minimum coordinates cannot be bigger than maximum coordinates!");
+
+        SnapshotGrid grid = new SnapshotGrid(minX >> 4, minZ >> 4,
+                (maxX >> 4) - (minX >> 4) + 1, (maxZ >> 4) - (minZ >> 4) + 1);
+
+        for (int x = 0; x < grid.width; x++) {
+            for (int z = 0; z < grid.depth; z++) {
+                int chunkX = grid.chunkX + x;
+                int chunkZ = grid.chunkZ + z;
+                grid.chunks[x * grid.depth + z] = PathfinderHandler.getChunk(world, chunkX, chunkZ, world.isChunkLoaded(chunkX, chunkZ));
+            }
+        }
+
+        return grid;
+    }
+
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final int width;
+    private final int depth;
+    private final PathChunk[] chunks;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param chunkX Minimum chunk x.
+     * @param chunkZ Minimum chunk z.
+     * @param width  Chunk count on x axis.
+     * @param depth  Chunk count on z axis.
+     */
+    private SnapshotGrid(int chunkX, int chunkZ, int width, int depth) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.width = width;
+        this.depth = depth;
+        this.chunks = new PathChunk[width * depth];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFlags(int x, int y, int z) {
+        int cx = (x >> 4) - this.chunkX;
+        int cz = (z >> 4) - this.chunkZ;
+        if (cx < 0 || cz < 0 || cx >= this.width || cz >= this.depth)
+            return SOLID;
+
+        PathChunk chunk = this.chunks[cx * this.depth + cz];
+        return (chunk != null) ? chunk.getFlags(x, y, z) : SOLID;
+    }
+}
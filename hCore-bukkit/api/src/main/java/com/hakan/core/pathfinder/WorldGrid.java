@@ -0,0 +1,41 @@
+package com.hakan.core.pathfinder;
+
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+
+/**
+ * WorldGrid class to read block flags
+ * from a live world. Chunks are taken from
+ * the cache of {@link PathfinderHandler} and
+ * captured when they are not cached, so it
+ * must be used only on the main thread.
+ */
+final class WorldGrid implements PathGrid {
+
+    private final World world;
+    private PathChunk lastChunk;
+    private long lastKey = Long.MIN_VALUE;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param world World.
+     */
+    WorldGrid(@Nonnull World world) {
+        this.world = world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFlags(int x, int y, int z) {
+        long key = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+        if (key != this.lastKey) {
+            this.lastChunk = PathfinderHandler.getChunk(this.world, x >> 4, z >> 4, true);
+            this.lastKey = key;
+        }
+        return this.lastChunk.getFlags(x, y, z);
+    }
+}
@@ -24,6 +24,8 @@ public final class Renderer {
     private boolean deleted;
     private boolean showEveryone;
     private boolean useYAxis;
+    private boolean registered;
+    private volatile boolean active;
     private Location location;
     private Set<UUID> viewers;
     private Set<UUID> shownViewers;
@@ -57,6 +59,8 @@ public Renderer(@Nonnull Location location, double radius,
         this.showEveryone = false;
         this.deleted = false;
         this.useYAxis = true;
+        this.registered = false;
+        this.active = true;
     }
 
     /**
@@ -159,7 +163,10 @@ public Location getLocation() {
      */
     @Nonnull
     public Renderer setLocation(@Nonnull Location location) {
+        Location old = this.location;
         this.location = Validate.notNull(location, "location cannot be null!");
+        if (this.registered)
+            RendererHandler.relocate(this, old, location);
         return this;
     }
 
@@ -279,10 +286,23 @@ public boolean isDeleted() {
         return this.deleted;
     }
 
+    /**
+     * Checks renderer is active. Renderers
+     * registered to {@link RendererHandler} are
+     * only active while their chunks are loaded.
+     *
+     * @return If renderer is active, returns true.
+     */
+    public boolean isActive() {
+        return this.active;
+    }
+
     /**
      * Deletes renderer.
      */
     public Renderer delete() {
+        if (this.registered)
+            RendererHandler.unregister(this);
         if (this.deleteConsumer != null)
             this.deleteConsumer.accept(this);
         this.deleted = true;
@@ -349,7 +369,7 @@ public Set<UUID> calculateViewers() {
      */
     @Nonnull
     public Renderer render() {
-        if (this.deleted)
+        if (this.deleted || !this.active)
             return this;
 
         List<UUID> viewers = new ArrayList<>(this.calculateViewers());
@@ -391,4 +411,34 @@ public Renderer render() {
         this.shownViewers = new HashSet<>(newShown);
         return this;
     }
+
+    /**
+     * Sets registered status of renderer.
+     *
+     * @param registered Registered status.
+     */
+    void setRegistered(boolean registered) {
+        this.registered = registered;
+    }
+
+    /**
+     * Sets active status of renderer.
+     *
+     * @param active Active status.
+     */
+    void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * Hides renderer from all shown
+     * players and clears shown viewers.
+     */
+    void hideAll() {
+        List<Player> shown = this.getShownPlayers();
+        this.shownViewers = new HashSet<>();
+
+        if (this.hideConsumer != null && shown.size() > 0)
+            this.hideConsumer.accept(shown);
+    }
 }
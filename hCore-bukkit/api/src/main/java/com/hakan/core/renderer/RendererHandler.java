@@ -0,0 +1,223 @@
+package com.hakan.core.renderer;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RendererHandler class to index registered
+ * renderers by chunk and render only the ones
+ * whose chunk neighbourhood is loaded.
+ */
+public final class RendererHandler {
+
+    private static final Map<String, Map<Long, Set<Renderer>>> renderers = new ConcurrentHashMap<>();
+    private static final Set<Renderer> actives = ConcurrentHashMap.newKeySet();
+    private static int neighbourhood = 1;
+
+    /**
+     * Initializes the renderer system.
+     */
+    public static void initialize() {
+        HCore.registerEvent(ChunkLoadEvent.class)
+                .consume(event -> RendererHandler.updateAround(event.getChunk(), false));
+
+        HCore.registerEvent(ChunkUnloadEvent.class)
+                .consume(event -> RendererHandler.updateAround(event.getChunk(), true));
+
+        HCore.asyncScheduler().every(10)
+                .freezeIf((task) -> actives.isEmpty())
+                .run(() -> actives.forEach(Renderer::render));
+    }
+
+    /**
+     * Gets chunk radius around a renderer which
+     * keeps the renderer active while loaded.
+     *
+     * @return Neighbourhood as chunk radius.
+     */
+    public static int getNeighbourhood() {
+        return neighbourhood;
+    }
+
+    /**
+     * Sets chunk radius around a renderer which
+     * keeps the renderer active while loaded.
+     *
+     * @param radius Neighbourhood as chunk radius.
+     */
+    public static void setNeighbourhood(int radius) {
+        Validate.isTrue(radius < 0, "neighbourhood cannot be negative!");
+        neighbourhood = radius;
+        renderers.values().forEach(chunks -> chunks.values()
+                .forEach(set -> set.forEach(renderer -> RendererHandler.update(renderer, null))));
+    }
+
+    /**
+     * Gets active renderers.
+     *
+     * @return Active renderers.
+     */
+    @Nonnull
+    public static Collection<Renderer> getActives() {
+        return Collections.unmodifiableSet(actives);
+    }
+
+    /**
+     * Registers renderer to chunk index
+     * and render loop.
+     *
+     * @param renderer Renderer.
+     */
+    public static void register(@Nonnull Renderer renderer) {
+        Validate.notNull(renderer, "renderer cannot be null!");
+
+        Location location = renderer.getLocation();
+        RendererHandler.getChunk(location, true).add(renderer);
+        renderer.setRegistered(true);
+        RendererHandler.update(renderer, null);
+    }
+
+    /**
+     * Unregisters renderer from chunk
+     * index and render loop.
+     *
+     * @param renderer Renderer.
+     */
+    public static void unregister(@Nonnull Renderer renderer) {
+        Validate.notNull(renderer, "renderer cannot be null!");
+
+        Set<Renderer> chunk = RendererHandler.getChunk(renderer.getLocation(), false);
+        if (chunk != null) chunk.remove(renderer);
+        actives.remove(renderer);
+        renderer.setRegistered(false);
+    }
+
+    /**
+     * Moves renderer in chunk index
+     * if its chunk is changed.
+     *
+     * @param renderer Renderer.
+     * @param from     Old location.
+     * @param to       New location.
+     */
+    static void relocate(@Nonnull Renderer renderer, @Nonnull Location from, @Nonnull Location to) {
+        if (from.getWorld() == to.getWorld()
+                && (from.getBlockX() >> 4) == (to.getBlockX() >> 4)
+                && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4))
+            return;
+
+        Set<Renderer> old = RendererHandler.getChunk(from, false);
+        if (old != null) old.remove(renderer);
+        RendererHandler.getChunk(to, true).add(renderer);
+        RendererHandler.update(renderer, null);
+    }
+
+    /**
+     * Updates renderers around the chunk.
+     *
+     * @param chunk     Loaded or unloaded chunk.
+     * @param unloading If chunk is unloading, returns true.
+     */
+    private static void updateAround(@Nonnull Chunk chunk, boolean unloading) {
+        Map<Long, Set<Renderer>> chunks = renderers.get(chunk.getWorld().getName());
+        if (chunks == null || chunks.isEmpty())
+            return;
+
+        Chunk excluded = unloading ? chunk : null;
+        for (int x = -neighbourhood; x <= neighbourhood; x++) {
+            for (int z = -neighbourhood; z <= neighbourhood; z++) {
+                Set<Renderer> set = chunks.get(RendererHandler.chunkKey(chunk.getX() + x, chunk.getZ() + z));
+                if (set != null) set.forEach(renderer -> RendererHandler.update(renderer, excluded));
+            }
+        }
+    }
+
+    /**
+     * Activates or deactivates the renderer
+     * by loaded chunks in its neighbourhood.
+     *
+     * @param renderer Renderer.
+     * @param excluded Chunk which is unloading.
+     */
+    private static void update(@Nonnull Renderer renderer, @Nullable Chunk excluded) {
+        Location location = renderer.getLocation();
+        World world = location.getWorld();
+        if (world == null || Bukkit.getWorld(world.getUID()) == null) {
+            RendererHandler.setActive(renderer, false);
+            return;
+        }
+
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        for (int x = chunkX - neighbourhood; x <= chunkX + neighbourhood; x++) {
+            for (int z = chunkZ - neighbourhood; z <= chunkZ + neighbourhood; z++) {
+                if (excluded != null && excluded.getX() == x && excluded.getZ() == z)
+                    continue;
+                if (world.isChunkLoaded(x, z)) {
+                    RendererHandler.setActive(renderer, true);
+                    return;
+                }
+            }
+        }
+
+        RendererHandler.setActive(renderer, false);
+    }
+
+    /**
+     * Sets active status of renderer.
+     *
+     * @param renderer Renderer.
+     * @param active   Active status.
+     */
+    private static void setActive(@Nonnull Renderer renderer, boolean active) {
+        renderer.setActive(active);
+        if (active) actives.add(renderer);
+        else if (actives.remove(renderer)) renderer.hideAll();
+    }
+
+    /**
+     * Gets renderer set of the chunk.
+     *
+     * @param location Location.
+     * @param create   Create if absent.
+     * @return Renderer set.
+     */
+    @Nullable
+    private static Set<Renderer> getChunk(@Nonnull Location location, boolean create) {
+        World world = Validate.notNull(location.getWorld(), "world cannot be null!");
+        long key = RendererHandler.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+
+        if (!create) {
+            Map<Long, Set<Renderer>> chunks = renderers.get(world.getName());
+            return (chunks != null) ? chunks.get(key) : null;
+        }
+
+        return renderers.computeIfAbsent(world.getName(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Creates chunk key from chunk coordinates.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Chunk key.
+     */
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hakan.core.scoreboard;
 
 import com.hakan.core.HCore;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.ColorUtil;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
@@ -8,20 +9,32 @@
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Scoreboard is a class that
  * creates, updates and removes
  * scoreboard for player.
+ * <p>
+ * Last sent title and lines are kept,
+ * so {@link #show()} only sends packets
+ * of the changed parts.
  */
 public abstract class Scoreboard {
 
     protected final Player player;
     protected String title;
     protected String[] lines;
+    Text titleText;
+    Text[] texts;
+    private String sentTitle;
+    private String[] sentLines;
+    private Text[] sentTexts;
 
     /**
      * Creates new Instance of this class.
@@ -32,6 +45,9 @@ public Scoreboard(@Nonnull Player player, @Nonnull String title) {
         this.player = Validate.notNull(player, "uid cannot be null!");
         this.title = Validate.notNull(title, "title cannot be null!");
         this.lines = new String[15];
+        this.texts = new Text[15];
+        this.sentLines = new String[15];
+        this.sentTexts = new Text[15];
     }
 
     /**
@@ -76,6 +92,19 @@ public final Scoreboard setTitle(@Nonnull String title) {
         return this;
     }
 
+    /**
+     * Sets title of scoreboard. Component
+     * of text is used when title is sent.
+     *
+     * @param title Title.
+     */
+    @Nonnull
+    public final Scoreboard setTitle(@Nonnull Text title) {
+        this.titleText = Validate.notNull(title, "title cannot be null!");
+        this.title = title.getText();
+        return this;
+    }
+
     /**
      * Gets lines of scoreboard.
      *
@@ -106,6 +135,22 @@ public final String getLine(int line) {
     @Nonnull
     public final Scoreboard setLine(int line, @Nonnull String text) {
         this.lines[line] = Validate.notNull(text, "text cannot be null!");
+        this.texts[line] = null;
+        return this;
+    }
+
+    /**
+     * Sets line of scoreboard to text. Colors
+     * of text are not translated again and its
+     * component is used when line is sent.
+     *
+     * @param line Line number.
+     * @param text Text.
+     */
+    @Nonnull
+    public final Scoreboard setLine(int line, @Nonnull Text text) {
+        this.lines[line] = Validate.notNull(text, "text cannot be null!").getText();
+        this.texts[line] = text;
         return this;
     }
 
@@ -127,6 +172,7 @@ public final Scoreboard setLines(@Nonnull List<String> lines) {
     @Nonnull
     public final Scoreboard setLines(@Nonnull String... lines) {
         this.lines = Validate.notNull(lines, "lines cannot be null!");
+        this.texts = new Text[lines.length];
         return this;
     }
 
@@ -138,6 +184,7 @@ public final Scoreboard setLines(@Nonnull String... lines) {
     @Nonnull
     public final Scoreboard removeLine(int line) {
         this.lines[line] = null;
+        this.texts[line] = null;
         return this;
     }
 
@@ -199,7 +246,9 @@ public final Scoreboard update(int updateInterval) {
 
     /**
      * Once every updateInterval ticks,
-     * it will trigger.
+     * it will trigger. Updates of all
+     * scoreboards are run by one ticker
+     * and staggered across ticks.
      *
      * @param updateInterval Update interval as tick.
      * @param consumer       Callback.
@@ -210,16 +259,85 @@ public final Scoreboard update(int updateInterval, @Nonnull Consumer<Scoreboard>
         Validate.notNull(consumer, "consumer cannot be null!");
         Validate.isTrue(updateInterval <= 0, "update interval must be greater than 0!");
 
-        HCore.syncScheduler().every(updateInterval)
-                .terminateIf(task -> !this.isExist())
-                .terminateIf(task -> !ScoreboardHandler.getByPlayer(this.player).equals(this))
-                .run(() -> {
-                    consumer.accept(this);
-                    this.show();
-                });
+        ScoreboardTicker.start(this, updateInterval, consumer);
+        return this;
+    }
+
+    /**
+     * Once every updateInterval ticks, lines
+     * are computed on a worker thread and
+     * applied on the next tick. Function must
+     * not use bukkit api that is not thread safe.
+     *
+     * @param updateInterval Update interval as tick.
+     * @param function       Function to compute lines.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final Scoreboard updateAsync(int updateInterval, @Nonnull Function<Scoreboard, List<String>> function) {
+        Validate.notNull(function, "function cannot be null!");
+        Validate.isTrue(updateInterval <= 0, "update interval must be greater than 0!");
+
+        ScoreboardTicker.startAsync(this, updateInterval, function);
+        return this;
+    }
+
+    /**
+     * Stops periodic updates of scoreboard.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final Scoreboard stopUpdating() {
+        ScoreboardTicker.stop(this);
+        return this;
+    }
+
+    /**
+     * Shows the scoreboard to player. Only
+     * changed title and lines are sent.
+     *
+     * @return Instance of wrapper.
+     */
+    @Nonnull
+    public final Scoreboard show() {
+        if (!this.title.equals(this.sentTitle)) {
+            boolean parsed = this.titleText != null && this.titleText.getText().equals(this.title);
+            this.sendObjective(this.sentTitle == null, parsed ? this.titleText : Text.of(this.title));
+            this.sentTitle = this.title;
+        }
+
+        if (this.lines.length > this.sentLines.length) {
+            this.sentLines = Arrays.copyOf(this.sentLines, this.lines.length);
+            this.sentTexts = Arrays.copyOf(this.sentTexts, this.lines.length);
+        }
+
+        for (int i = 0; i < this.sentLines.length; i++) {
+            String line = (i < this.lines.length) ? this.lines[i] : null;
+            if (Objects.equals(line, this.sentLines[i])) continue;
+
+            Text text = (line != null) ? this.getText(i, line) : null;
+            if (text == null) this.sendLineRemove(i, this.sentTexts[i]);
+            else this.sendLine(i, this.sentTexts[i], text);
+            this.sentLines[i] = line;
+            this.sentTexts[i] = text;
+        }
+
         return this;
     }
 
+    /**
+     * Gets entry of line which is
+     * shown as score holder.
+     *
+     * @param line Line.
+     * @return Entry.
+     */
+    @Nonnull
+    protected final String getEntry(int line) {
+        return (line >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[line - 10] : "§" + line;
+    }
+
     /**
      * Splits text into 3 different parts
      * for prefix, middle and suffix.
@@ -232,7 +350,7 @@ protected final String[] splitLine(int line, @Nonnull String text) {
         Validate.notNull(text, "text cannot be null!");
         Validate.isTrue(text.length() > 32, "text length must be smaller than or equal to 32! (" + text + ")");
 
-        String color = (line >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[line - 10] : "§" + line;
+        String color = this.getEntry(line);
         text += new String(new char[32 - text.length()]).replace("\0", "‼");
 
         String prefix = text.substring(0, 16);
@@ -246,15 +364,51 @@ protected final String[] splitLine(int line, @Nonnull String text) {
         };
     }
 
+    /**
+     * Removes sent lines from player and
+     * forgets sent title and lines, so the
+     * scoreboard is sent from scratch if
+     * it is shown again.
+     */
+    protected final void clearSent() {
+        for (int i = 0; i < this.sentTexts.length; i++) {
+            if (this.sentTexts[i] != null)
+                this.sendLineRemove(i, this.sentTexts[i]);
+        }
+
+        this.sentTitle = null;
+        Arrays.fill(this.sentLines, null);
+        Arrays.fill(this.sentTexts, null);
+    }
+
 
 
     /**
-     * Shows the scoreboard to player.
+     * Sends objective with title of
+     * scoreboard to player.
      *
-     * @return Instance of wrapper.
+     * @param create Creates and displays the objective
+     *               if true, otherwise updates its title.
+     * @param title  Title.
      */
-    @Nonnull
-    public abstract Scoreboard show();
+    protected abstract void sendObjective(boolean create, @Nonnull Text title);
+
+    /**
+     * Sends team and score of line to player.
+     *
+     * @param line     Line.
+     * @param previous Last sent colored text, null if line is not sent.
+     * @param text     Colored text.
+     */
+    protected abstract void sendLine(int line, @Nullable Text previous, @Nonnull Text text);
+
+    /**
+     * Removes team and score of line from player.
+     *
+     * @param line     Line.
+     * @param previous Last sent colored text.
+     */
+    protected abstract void sendLineRemove(int line, @Nonnull Text previous);
 
     /**
      * Deletes scoreboard.
@@ -263,4 +417,24 @@ protected final String[] splitLine(int line, @Nonnull String text) {
      */
     @Nonnull
     public abstract Scoreboard delete();
+
+
+
+    /**
+     * Gets text to send for line. Text set
+     * with {@link #setLine(int, Text)} is used
+     * as long as line is not changed, otherwise
+     * colors of line are translated.
+     *
+     * @param line Line.
+     * @param text Text of line.
+     * @return Text.
+     */
+    @Nonnull
+    private Text getText(int line, @Nonnull String text) {
+        Text component = (line < this.texts.length) ? this.texts[line] : null;
+        if (component != null && component.getText().equals(text))
+            return component;
+        return Text.colored(text);
+    }
 }
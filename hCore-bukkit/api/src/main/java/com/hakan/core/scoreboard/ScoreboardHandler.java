@@ -27,6 +27,8 @@ public final class ScoreboardHandler {
      * Initialize method of Scoreboard.
      */
     public static void initialize() {
+        ScoreboardTicker.initialize();
+
         HCore.registerEvent(PlayerQuitEvent.class)
                 .consume(event -> ScoreboardHandler.findByPlayer(event.getPlayer()).ifPresent(Scoreboard::delete));
     }
@@ -183,4 +185,16 @@ public static Scoreboard create(@Nonnull UUID uid, @Nonnull String title) {
         scoreboards.put(player.getUniqueId(), scoreboard);
         return scoreboard;
     }
+
+    /**
+     * Creates new scoreboard template
+     * which can be shown to many players.
+     *
+     * @param title Title.
+     * @return new instance of ScoreboardTemplate.
+     */
+    @Nonnull
+    public static ScoreboardTemplate createTemplate(@Nonnull String title) {
+        return new ScoreboardTemplate(title);
+    }
 }
@@ -0,0 +1,277 @@
+package com.hakan.core.scoreboard;
+
+import com.hakan.core.message.text.Text;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * ScoreboardTemplate class to share one
+ * scoreboard layout between players. Static
+ * lines are parsed once and shared by every
+ * viewer, and only placeholder lines are
+ * evaluated per viewer.
+ */
+public final class ScoreboardTemplate {
+
+    private final Text[] lines;
+    private final Function<Player, String>[] placeholders;
+    private final Map<UUID, Scoreboard> scoreboards;
+    private Text title;
+    private int updateInterval;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param title Title.
+     */
+    @SuppressWarnings("unchecked")
+    ScoreboardTemplate(@Nonnull String title) {
+        this.title = Text.of(Validate.notNull(title, "title cannot be null!"));
+        this.lines = new Text[15];
+        this.placeholders = new Function[15];
+        this.scoreboards = new HashMap<>();
+    }
+
+    /**
+     * Gets title of template.
+     *
+     * @return Title.
+     */
+    @Nonnull
+    public String getTitle() {
+        return this.title.getText();
+    }
+
+    /**
+     * Sets title of template.
+     *
+     * @param title Title.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate setTitle(@Nonnull String title) {
+        return this.setTitle(Text.of(Validate.notNull(title, "title cannot be null!")));
+    }
+
+    /**
+     * Sets title of template.
+     *
+     * @param title Title.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate setTitle(@Nonnull Text title) {
+        this.title = Validate.notNull(title, "title cannot be null!");
+        return this;
+    }
+
+    /**
+     * Sets line to static text
+     * which is shared by all viewers.
+     *
+     * @param line Line number.
+     * @param text Text.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate setLine(int line, @Nonnull String text) {
+        return this.setLine(line, Text.colored(Validate.notNull(text, "text cannot be null!")));
+    }
+
+    /**
+     * Sets line to static text
+     * which is shared by all viewers.
+     *
+     * @param line Line number.
+     * @param text Text.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate setLine(int line, @Nonnull Text text) {
+        this.lines[line] = Validate.notNull(text, "text cannot be null!");
+        this.placeholders[line] = null;
+        return this;
+    }
+
+    /**
+     * Sets line to placeholder
+     * which is evaluated per viewer.
+     *
+     * @param line        Line number.
+     * @param placeholder Function to create text of viewer.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate setLine(int line, @Nonnull Function<Player, String> placeholder) {
+        this.placeholders[line] = Validate.notNull(placeholder, "placeholder cannot be null!");
+        this.lines[line] = null;
+        return this;
+    }
+
+    /**
+     * Removes line from template.
+     *
+     * @param line Line number.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate removeLine(int line) {
+        this.lines[line] = null;
+        this.placeholders[line] = null;
+        return this;
+    }
+
+    /**
+     * Gets scoreboards of viewers.
+     *
+     * @return Scoreboards.
+     */
+    @Nonnull
+    public Collection<Scoreboard> getScoreboards() {
+        this.scoreboards.values().removeIf(scoreboard -> !this.isOwned(scoreboard));
+        return new ArrayList<>(this.scoreboards.values());
+    }
+
+    /**
+     * Finds scoreboard of viewer.
+     *
+     * @param player Player.
+     * @return Scoreboard, null if player is not viewer.
+     */
+    @Nullable
+    public Scoreboard getScoreboard(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        Scoreboard scoreboard = this.scoreboards.get(player.getUniqueId());
+        return (scoreboard != null && this.isOwned(scoreboard)) ? scoreboard : null;
+    }
+
+    /**
+     * Once every updateInterval ticks, lines
+     * of viewers are rendered. Updates are run
+     * by the scoreboard ticker.
+     *
+     * @param updateInterval Update interval as tick.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate update(int updateInterval) {
+        Validate.isTrue(updateInterval <= 0, "update interval must be greater than 0!");
+
+        this.updateInterval = updateInterval;
+        this.getScoreboards().forEach(scoreboard -> scoreboard.update(updateInterval, this::render));
+        return this;
+    }
+
+    /**
+     * Shows template to player. Existing
+     * scoreboard of player is replaced.
+     *
+     * @param player Player.
+     * @return Scoreboard of player.
+     */
+    @Nonnull
+    public Scoreboard show(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        Scoreboard scoreboard = this.getScoreboard(player);
+        if (scoreboard == null) {
+            scoreboard = ScoreboardHandler.forceCreate(player, this.title.getText());
+            this.scoreboards.put(player.getUniqueId(), scoreboard);
+
+            if (this.updateInterval > 0)
+                scoreboard.update(this.updateInterval, this::render);
+        }
+
+        this.render(scoreboard);
+        return scoreboard;
+    }
+
+    /**
+     * Hides template from player.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate hide(@Nonnull Player player) {
+        Scoreboard scoreboard = this.getScoreboard(player);
+        if (scoreboard != null) scoreboard.delete();
+        this.scoreboards.remove(player.getUniqueId());
+        return this;
+    }
+
+    /**
+     * Renders lines of all viewers.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate render() {
+        this.getScoreboards().forEach(this::render);
+        return this;
+    }
+
+    /**
+     * Hides template from all viewers.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public ScoreboardTemplate delete() {
+        this.getScoreboards().forEach(Scoreboard::delete);
+        this.scoreboards.clear();
+        return this;
+    }
+
+
+
+    /**
+     * Renders lines of scoreboard. Static lines
+     * are shared, so only placeholder lines
+     * are built and parsed.
+     *
+     * @param scoreboard Scoreboard.
+     */
+    private void render(@Nonnull Scoreboard scoreboard) {
+        if (scoreboard.lines.length != this.lines.length) {
+            scoreboard.lines = new String[this.lines.length];
+            scoreboard.texts = new Text[this.lines.length];
+        }
+
+        for (int i = 0; i < this.lines.length; i++) {
+            Function<Player, String> placeholder = this.placeholders[i];
+            Text text = this.lines[i];
+            if (placeholder != null) {
+                String value = placeholder.apply(scoreboard.getPlayer());
+                text = (value != null) ? Text.colored(value) : null;
+            }
+
+            scoreboard.lines[i] = (text != null) ? text.getText() : null;
+            scoreboard.texts[i] = text;
+        }
+
+        scoreboard.setTitle(this.title);
+        scoreboard.show();
+    }
+
+    /**
+     * Checks if scoreboard is still
+     * shown by this template.
+     *
+     * @param scoreboard Scoreboard.
+     * @return True if it is shown.
+     */
+    private boolean isOwned(@Nonnull Scoreboard scoreboard) {
+        return ScoreboardHandler.getContent().get(scoreboard.getPlayer().getUniqueId()) == scoreboard;
+    }
+}
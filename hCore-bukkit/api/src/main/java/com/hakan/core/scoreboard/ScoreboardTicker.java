@@ -0,0 +1,179 @@
+package com.hakan.core.scoreboard;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * ScoreboardTicker class to update periodic
+ * scoreboards from one tick loop. Boards with
+ * the same interval are staggered across ticks,
+ * so their updates are spread instead of firing
+ * on the same tick. Lines of async updates are
+ * computed on worker threads and applied on the
+ * next tick.
+ */
+final class ScoreboardTicker {
+
+    private static final Map<UUID, ScoreboardTicker> tickers = new HashMap<>();
+    private static int ticks;
+    private static int sequence;
+
+    /**
+     * Initializes the ticker loop. Updaters are
+     * ticked from a copy, so they can start or
+     * stop updaters while the loop runs. An
+     * updater that throws is logged and stopped,
+     * so it cannot break the others.
+     */
+    static void initialize() {
+        HCore.syncScheduler().every(1)
+                .freezeIf((task) -> tickers.isEmpty())
+                .run(() -> {
+                    ticks++;
+                    for (ScoreboardTicker ticker : new ArrayList<>(tickers.values())) {
+                        if (tickers.get(ticker.uid) != ticker)
+                            continue;
+
+                        try {
+                            if (!ticker.tick())
+                                tickers.remove(ticker.uid, ticker);
+                        } catch (Exception e) {
+                            HCore.getInstance().getLogger().log(Level.WARNING,
+                                    "could not update scoreboard of " + ticker.uid + ", updater is stopped", e);
+                            tickers.remove(ticker.uid, ticker);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Starts updating scoreboard on the main
+     * thread. Previous updater of the player
+     * is replaced.
+     *
+     * @param scoreboard Scoreboard.
+     * @param interval   Update interval as tick.
+     * @param consumer   Callback.
+     */
+    static void start(@Nonnull Scoreboard scoreboard, int interval, @Nonnull Consumer<Scoreboard> consumer) {
+        Validate.notNull(scoreboard, "scoreboard cannot be null!");
+        Validate.notNull(consumer, "consumer cannot be null!");
+        ScoreboardTicker.put(new ScoreboardTicker(scoreboard, interval, consumer, null));
+    }
+
+    /**
+     * Starts updating scoreboard with lines
+     * computed on worker threads. Previous
+     * updater of the player is replaced.
+     *
+     * @param scoreboard Scoreboard.
+     * @param interval   Update interval as tick.
+     * @param function   Function to compute lines.
+     */
+    static void startAsync(@Nonnull Scoreboard scoreboard, int interval, @Nonnull Function<Scoreboard, List<String>> function) {
+        Validate.notNull(scoreboard, "scoreboard cannot be null!");
+        Validate.notNull(function, "function cannot be null!");
+        ScoreboardTicker.put(new ScoreboardTicker(scoreboard, interval, null, function));
+    }
+
+    /**
+     * Stops updating scoreboard.
+     *
+     * @param scoreboard Scoreboard.
+     */
+    static void stop(@Nonnull Scoreboard scoreboard) {
+        Validate.notNull(scoreboard, "scoreboard cannot be null!");
+        tickers.computeIfPresent(scoreboard.getPlayer().getUniqueId(),
+                (uid, ticker) -> (ticker.scoreboard == scoreboard) ? null : ticker);
+    }
+
+    /**
+     * Puts ticker with the next stagger offset.
+     *
+     * @param ticker Ticker.
+     */
+    private static void put(@Nonnull ScoreboardTicker ticker) {
+        ticker.offset = Math.floorMod(sequence++, ticker.interval);
+        tickers.put(ticker.uid, ticker);
+    }
+
+
+    private final UUID uid;
+    private final Scoreboard scoreboard;
+    private final int interval;
+    private final Consumer<Scoreboard> consumer;
+    private final Function<Scoreboard, List<String>> function;
+
+    private int offset;
+    private volatile List<String> lines;
+    private volatile boolean computing;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param scoreboard Scoreboard.
+     * @param interval   Update interval as tick.
+     * @param consumer   Callback, null for async updates.
+     * @param function   Function to compute lines, null for sync updates.
+     */
+    private ScoreboardTicker(@Nonnull Scoreboard scoreboard, int interval,
+                             @Nullable Consumer<Scoreboard> consumer,
+                             @Nullable Function<Scoreboard, List<String>> function) {
+        this.uid = scoreboard.getPlayer().getUniqueId();
+        this.scoreboard = scoreboard;
+        this.interval = interval;
+        this.consumer = consumer;
+        this.function = function;
+    }
+
+
+
+    /**
+     * Applies computed lines and updates
+     * the scoreboard if its turn has come.
+     *
+     * @return False if scoreboard does not exist anymore.
+     */
+    private boolean tick() {
+        List<String> computed = this.lines;
+        boolean due = (ticks + this.offset) % this.interval == 0;
+        if (!due && computed == null)
+            return true;
+        if (ScoreboardHandler.getContent().get(this.uid) != this.scoreboard)
+            return false;
+
+        if (computed != null) {
+            this.lines = null;
+            this.scoreboard.setLines(computed).show();
+        }
+
+        if (!due) {
+            return true;
+        } else if (this.consumer != null) {
+            this.consumer.accept(this.scoreboard);
+            this.scoreboard.show();
+        } else if (!this.computing) {
+            this.computing = true;
+            HCore.asyncScheduler().run(() -> {
+                try {
+                    this.lines = this.function.apply(this.scoreboard);
+                } finally {
+                    this.computing = false;
+                }
+            });
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,256 @@
+package com.hakan.core.scoreboard.objective;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.ColorUtil;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Objective class to show scores in the
+ * player list or below names of players.
+ * <p>
+ * Score changes are collected and sent
+ * to viewers once per tick, and only the
+ * changed scores are sent.
+ */
+public final class Objective {
+
+    private final String name;
+    private final ObjectiveSlot slot;
+    private final Map<String, Integer> scores;
+    private final Map<String, Integer> changes;
+    private final Map<UUID, Player> viewers;
+    private String title;
+    private boolean titleChanged;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param name  Objective name.
+     * @param slot  Display slot.
+     * @param title Title.
+     */
+    Objective(@Nonnull String name, @Nonnull ObjectiveSlot slot, @Nonnull String title) {
+        this.name = Validate.notNull(name, "name cannot be null!");
+        this.slot = Validate.notNull(slot, "slot cannot be null!");
+        this.title = ColorUtil.colored(Validate.notNull(title, "title cannot be null!"));
+        this.scores = new HashMap<>();
+        this.changes = new LinkedHashMap<>();
+        this.viewers = new LinkedHashMap<>();
+    }
+
+    /**
+     * Gets objective name.
+     *
+     * @return Name.
+     */
+    @Nonnull
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets display slot.
+     *
+     * @return Slot.
+     */
+    @Nonnull
+    public ObjectiveSlot getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Gets colored title.
+     *
+     * @return Title.
+     */
+    @Nonnull
+    public String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Sets title. It is sent
+     * to viewers on the next tick.
+     *
+     * @param title Title.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective setTitle(@Nonnull String title) {
+        String colored = ColorUtil.colored(Validate.notNull(title, "title cannot be null!"));
+        if (colored.equals(this.title))
+            return this;
+
+        this.title = colored;
+        this.titleChanged = true;
+        ObjectiveHandler.markChanged(this);
+        return this;
+    }
+
+    /**
+     * Gets score of entry.
+     *
+     * @param entry Entry.
+     * @return Score, null if entry has no score.
+     */
+    @Nullable
+    public Integer getScore(@Nonnull String entry) {
+        return this.scores.get(Validate.notNull(entry, "entry cannot be null!"));
+    }
+
+    /**
+     * Sets score of player.
+     *
+     * @param player Player.
+     * @param score  Score.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective setScore(@Nonnull Player player, int score) {
+        Validate.notNull(player, "player cannot be null!");
+        return this.setScore(player.getName(), score);
+    }
+
+    /**
+     * Sets score of entry. It is sent
+     * to viewers on the next tick if
+     * it is changed.
+     *
+     * @param entry Entry.
+     * @param score Score.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective setScore(@Nonnull String entry, int score) {
+        Validate.notNull(entry, "entry cannot be null!");
+
+        Integer old = this.scores.put(entry, score);
+        if (old == null || old != score) {
+            this.changes.put(entry, score);
+            ObjectiveHandler.markChanged(this);
+        }
+        return this;
+    }
+
+    /**
+     * Removes score of entry.
+     *
+     * @param entry Entry.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective removeScore(@Nonnull String entry) {
+        Validate.notNull(entry, "entry cannot be null!");
+
+        if (this.scores.remove(entry) != null) {
+            this.changes.put(entry, null);
+            ObjectiveHandler.markChanged(this);
+        }
+        return this;
+    }
+
+    /**
+     * Gets viewers.
+     *
+     * @return Viewers.
+     */
+    @Nonnull
+    public Collection<Player> getViewers() {
+        return new ArrayList<>(this.viewers.values());
+    }
+
+    /**
+     * Shows objective and all
+     * of its scores to player.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective addViewer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        if (this.viewers.put(player.getUniqueId(), player) != null)
+            return this;
+
+        ObjectivePackets packets = ObjectiveHandler.getPackets();
+        List<Object> list = new ArrayList<>();
+        list.add(packets.createObjective(this.name, this.title, true));
+        list.add(packets.displayObjective(this.slot.getPosition(), this.name));
+        this.scores.forEach((entry, score) -> list.add(packets.updateScore(entry, this.name, score)));
+
+        HCore.sendPacket(player, list.toArray());
+        return this;
+    }
+
+    /**
+     * Hides objective from player.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective removeViewer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        if (this.viewers.remove(player.getUniqueId()) != null && player.isOnline())
+            HCore.sendPacket(player, ObjectiveHandler.getPackets().removeObjective(this.name));
+        return this;
+    }
+
+    /**
+     * Hides objective from all
+     * viewers and deletes it.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public Objective delete() {
+        this.getViewers().forEach(this::removeViewer);
+        this.scores.clear();
+        this.changes.clear();
+        ObjectiveHandler.getContent().remove(this.name);
+        return this;
+    }
+
+    /**
+     * Removes viewer without sending
+     * packets, for players who quit.
+     *
+     * @param uid Uid of player.
+     */
+    void forgetViewer(@Nonnull UUID uid) {
+        this.viewers.remove(uid);
+    }
+
+    /**
+     * Sends collected changes to viewers.
+     */
+    void flush() {
+        if (!this.titleChanged && this.changes.isEmpty())
+            return;
+
+        ObjectivePackets packets = ObjectiveHandler.getPackets();
+        List<Object> list = new ArrayList<>();
+        if (this.titleChanged)
+            list.add(packets.createObjective(this.name, this.title, false));
+        this.changes.forEach((entry, score) -> list.add((score != null) ?
+                packets.updateScore(entry, this.name, score) : packets.removeScore(entry, this.name)));
+
+        this.titleChanged = false;
+        this.changes.clear();
+
+        if (!this.viewers.isEmpty())
+            HCore.sendPacket(new ArrayList<>(this.viewers.values()), list.toArray());
+    }
+}
@@ -0,0 +1,111 @@
+package com.hakan.core.scoreboard.objective;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ObjectiveHandler class to create list
+ * and below name objectives, and to send
+ * their changed scores once per tick.
+ */
+public final class ObjectiveHandler {
+
+    private static final Map<String, Objective> objectives = new HashMap<>();
+    private static final Set<Objective> changed = new LinkedHashSet<>();
+    private static ObjectivePackets packets;
+    private static int sequence;
+
+    /**
+     * Initializes the objective api.
+     */
+    public static void initialize() {
+        packets = ReflectionUtils.newInstance("com.hakan.core.scoreboard.objective.versions.ObjectivePackets_%s");
+
+        HCore.syncScheduler().every(1)
+                .freezeIf((task) -> changed.isEmpty())
+                .run(() -> {
+                    changed.forEach(Objective::flush);
+                    changed.clear();
+                });
+
+        HCore.registerEvent(PlayerQuitEvent.class)
+                .consume(event -> objectives.values().forEach(objective -> objective.forgetViewer(event.getPlayer().getUniqueId())));
+    }
+
+
+    /**
+     * Gets objective map.
+     *
+     * @return Objective map.
+     */
+    @Nonnull
+    public static Map<String, Objective> getContent() {
+        return objectives;
+    }
+
+    /**
+     * Gets all objectives as safe.
+     *
+     * @return Objective list.
+     */
+    @Nonnull
+    public static Collection<Objective> getValuesSafe() {
+        return new ArrayList<>(objectives.values());
+    }
+
+    /**
+     * Finds a created objective.
+     *
+     * @param name Objective name.
+     * @return Objective as optional.
+     */
+    @Nonnull
+    public static Optional<Objective> findByName(@Nonnull String name) {
+        return Optional.ofNullable(objectives.get(Validate.notNull(name, "name cannot be null!")));
+    }
+
+    /**
+     * Creates new objective.
+     *
+     * @param slot  Display slot.
+     * @param title Title.
+     * @return new instance of Objective.
+     */
+    @Nonnull
+    public static Objective create(@Nonnull ObjectiveSlot slot, @Nonnull String title) {
+        Objective objective = new Objective("hc_obj_" + sequence++, slot, title);
+        objectives.put(objective.getName(), objective);
+        return objective;
+    }
+
+    /**
+     * Gets packet factory of version.
+     *
+     * @return Packet factory.
+     */
+    @Nonnull
+    static ObjectivePackets getPackets() {
+        return packets;
+    }
+
+    /**
+     * Marks objective to be
+     * flushed on the next tick.
+     *
+     * @param objective Objective.
+     */
+    static void markChanged(@Nonnull Objective objective) {
+        changed.add(objective);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hakan.core.scoreboard.objective;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ObjectivePackets class to create NMS
+ * objective and score packets. It is
+ * implemented for each server version.
+ */
+public interface ObjectivePackets {
+
+    /**
+     * Creates objective packet.
+     *
+     * @param name   Objective name.
+     * @param title  Colored title.
+     * @param create Creates the objective if true, otherwise updates its title.
+     * @return Packet.
+     */
+    @Nonnull
+    Object createObjective(@Nonnull String name, @Nonnull String title, boolean create);
+
+    /**
+     * Creates objective remove packet.
+     *
+     * @param name Objective name.
+     * @return Packet.
+     */
+    @Nonnull
+    Object removeObjective(@Nonnull String name);
+
+    /**
+     * Creates display objective packet.
+     *
+     * @param position Display position, see {@link ObjectiveSlot}.
+     * @param name     Objective name.
+     * @return Packet.
+     */
+    @Nonnull
+    Object displayObjective(int position, @Nonnull String name);
+
+    /**
+     * Creates score update packet.
+     *
+     * @param entry     Entry.
+     * @param objective Objective name.
+     * @param score     Score.
+     * @return Packet.
+     */
+    @Nonnull
+    Object updateScore(@Nonnull String entry, @Nonnull String objective, int score);
+
+    /**
+     * Creates score remove packet.
+     *
+     * @param entry     Entry.
+     * @param objective Objective name.
+     * @return Packet.
+     */
+    @Nonnull
+    Object removeScore(@Nonnull String entry, @Nonnull String objective);
+}
@@ -0,0 +1,32 @@
+package com.hakan.core.scoreboard.objective;
+
+/**
+ * Display slots of objectives.
+ */
+public enum ObjectiveSlot {
+
+    LIST(0),
+    BELOW_NAME(2),
+    ;
+
+
+    private final int position;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param position Display position in packets.
+     */
+    ObjectiveSlot(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Gets display position in packets.
+     *
+     * @return Position.
+     */
+    public int getPosition() {
+        return this.position;
+    }
+}
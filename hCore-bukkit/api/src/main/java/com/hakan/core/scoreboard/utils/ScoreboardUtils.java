@@ -0,0 +1,190 @@
+package com.hakan.core.scoreboard.utils;
+
+import com.hakan.core.utils.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * ScoreboardUtils class to write packet
+ * contents of scoreboard objectives, teams
+ * and scores, so packets can be read from
+ * buffers without setting their fields.
+ * <p>
+ * Texts are plain strings before 1.13,
+ * and json components on later versions.
+ */
+public final class ScoreboardUtils {
+
+    /**
+     * Writes objective content.
+     *
+     * @param name   Objective name.
+     * @param title  Title.
+     * @param create Creates the objective if true, otherwise updates it.
+     * @param legacy Writes pre-1.13 content if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeObjective(@Nonnull String name, @Nonnull String title, boolean create, boolean legacy) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, name);
+        buf.writeByte(create ? 0 : 2);
+        ByteBufUtils.writeString(buf, title);
+        if (legacy) ByteBufUtils.writeString(buf, "integer");
+        else ByteBufUtils.writeVarInt(buf, 0);
+        return buf;
+    }
+
+    /**
+     * Writes objective remove content.
+     *
+     * @param name Objective name.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeObjectiveRemove(@Nonnull String name) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, name);
+        buf.writeByte(1);
+        return buf;
+    }
+
+    /**
+     * Writes display objective content.
+     *
+     * @param position Display position (0 list, 1 sidebar, 2 below name).
+     * @param name     Objective name.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeDisplayObjective(int position, @Nonnull String name) {
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeByte(position);
+        ByteBufUtils.writeString(buf, name);
+        return buf;
+    }
+
+    /**
+     * Writes team content for
+     * versions before 1.13.
+     *
+     * @param name      Team name.
+     * @param create    Creates the team if true, otherwise updates it.
+     * @param prefix    Prefix.
+     * @param suffix    Suffix.
+     * @param entries   Entries to add when team is created.
+     * @param collision Writes collision rule (1.9 and later) if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeLegacyTeam(@Nonnull String name, boolean create,
+                                          @Nonnull String prefix, @Nonnull String suffix,
+                                          @Nonnull List<String> entries, boolean collision) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, name);
+        buf.writeByte(create ? 0 : 2);
+        ByteBufUtils.writeString(buf, name);
+        ByteBufUtils.writeString(buf, prefix);
+        ByteBufUtils.writeString(buf, suffix);
+        buf.writeByte(1);
+        ByteBufUtils.writeString(buf, "always");
+        if (collision) ByteBufUtils.writeString(buf, "always");
+        buf.writeByte(-1);
+        if (create) ScoreboardUtils.writeEntries(buf, entries);
+        return buf;
+    }
+
+    /**
+     * Writes team content for
+     * 1.13 and later versions.
+     *
+     * @param name        Team name.
+     * @param create      Creates the team if true, otherwise updates it.
+     * @param displayName Display name as json.
+     * @param prefix      Prefix as json.
+     * @param suffix      Suffix as json.
+     * @param entries     Entries to add when team is created.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeTeam(@Nonnull String name, boolean create,
+                                    @Nonnull String displayName, @Nonnull String prefix, @Nonnull String suffix,
+                                    @Nonnull List<String> entries) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, name);
+        buf.writeByte(create ? 0 : 2);
+        ByteBufUtils.writeString(buf, displayName);
+        buf.writeByte(1);
+        ByteBufUtils.writeString(buf, "always");
+        ByteBufUtils.writeString(buf, "always");
+        ByteBufUtils.writeVarInt(buf, 21);
+        ByteBufUtils.writeString(buf, prefix);
+        ByteBufUtils.writeString(buf, suffix);
+        if (create) ScoreboardUtils.writeEntries(buf, entries);
+        return buf;
+    }
+
+    /**
+     * Writes team remove content.
+     *
+     * @param name Team name.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeTeamRemove(@Nonnull String name) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, name);
+        buf.writeByte(1);
+        return buf;
+    }
+
+    /**
+     * Writes score content.
+     *
+     * @param entry     Entry.
+     * @param objective Objective name.
+     * @param score     Score.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeScore(@Nonnull String entry, @Nonnull String objective, int score) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, entry);
+        ByteBufUtils.writeVarInt(buf, 0);
+        ByteBufUtils.writeString(buf, objective);
+        ByteBufUtils.writeVarInt(buf, score);
+        return buf;
+    }
+
+    /**
+     * Writes score remove content.
+     *
+     * @param entry     Entry.
+     * @param objective Objective name.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeScoreRemove(@Nonnull String entry, @Nonnull String objective) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, entry);
+        ByteBufUtils.writeVarInt(buf, 1);
+        ByteBufUtils.writeString(buf, objective);
+        return buf;
+    }
+
+
+
+    /**
+     * Writes entries of team.
+     *
+     * @param buf     Buffer.
+     * @param entries Entries.
+     */
+    private static void writeEntries(@Nonnull ByteBuf buf, @Nonnull List<String> entries) {
+        ByteBufUtils.writeVarInt(buf, entries.size());
+        entries.forEach(entry -> ByteBufUtils.writeString(buf, entry));
+    }
+}
@@ -1,14 +1,11 @@
 package com.hakan.core.skin;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
-import java.io.InputStreamReader;
-import java.net.URL;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,8 +38,11 @@ public class Skin {
      *
      * @param player Player.
      * @return Skin.
+     * @deprecated blocks the caller until skin is
+     * fetched, use {@link #fromAsync(String)} instead.
      */
     @Nonnull
+    @Deprecated
     public static Skin from(@Nonnull Player player) {
         Validate.notNull(player, "player cannot be null!");
         return from(player.getName());
@@ -53,30 +53,34 @@ public static Skin from(@Nonnull Player player) {
      * mojang api.
      *
      * @param playerName Player name.
-     * @return Skin.
-     * @throws RuntimeException If there is no skin for player.
+     * @return Skin, if there is no skin for player returns {@link #STEVE}.
+     * @deprecated blocks the caller until skin is fetched if
+     * it is not cached, never call it from main thread.
+     * Use {@link #fromAsync(String)} instead.
      */
     @Nonnull
+    @Deprecated
     public static Skin from(@Nonnull String playerName) {
         try {
             Validate.notNull(playerName, "player name cannot be null!");
-
-            URL url_0 = new URL("https://api.mojang.com/users/profiles/minecraft/" + playerName);
-            InputStreamReader reader_0 = new InputStreamReader(url_0.openStream());
-            String uuid = new JsonParser().parse(reader_0).getAsJsonObject().get("id").getAsString();
-
-            URL url_1 = new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid + "?unsigned=false");
-            InputStreamReader reader_1 = new InputStreamReader(url_1.openStream());
-            JsonObject textureProperty = new JsonParser().parse(reader_1).getAsJsonObject().get("properties").getAsJsonArray().get(0).getAsJsonObject();
-            String texture = textureProperty.get("value").getAsString();
-            String signature = textureProperty.get("signature").getAsString();
-
-            return new Skin(texture, signature);
+            return SkinHandler.fetch(playerName).get();
         } catch (Exception e) {
             return STEVE;
         }
     }
 
+    /**
+     * Gets skin of player from
+     * mojang api asynchronously.
+     *
+     * @param playerName Player name.
+     * @return Future of skin.
+     */
+    @Nonnull
+    public static CompletableFuture<Skin> fromAsync(@Nonnull String playerName) {
+        return SkinHandler.fetch(Validate.notNull(playerName, "player name cannot be null!"));
+    }
+
 
 
     private final String texture;
@@ -0,0 +1,326 @@
+package com.hakan.core.skin;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+import org.bukkit.event.server.PluginDisableEvent;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * SkinHandler class to fetch skins from
+ * mojang api asynchronously. Requests for the
+ * same name are coalesced, results are cached in
+ * memory with a ttl and on disk across restarts,
+ * and requests are spread to respect a rate limit.
+ */
+public final class SkinHandler {
+
+    private static final int FILE_VERSION = 1;
+    private static final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "hCore-Skin");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final Map<String, CachedSkin> cache = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<Skin>> requests = new ConcurrentHashMap<>();
+
+    private static String profileUrl = "https://api.mojang.com/users/profiles/minecraft/";
+    private static String sessionUrl = "https://sessionserver.mojang.com/session/minecraft/profile/";
+    private static long ttl = TimeUnit.HOURS.toMillis(6);
+    private static int timeout = 5000;
+    private static long interval = 1000;
+    private static long nextSlot = 0;
+    private static volatile boolean dirty = false;
+    private static File file;
+
+    /**
+     * Initializes the skin system.
+     */
+    public static void initialize() {
+        file = new File(HCore.getInstance().getDataFolder(), "skins.dat");
+        executor.execute(SkinHandler::loadFile);
+
+        HCore.asyncScheduler().every(5, TimeUnit.MINUTES)
+                .run(() -> executor.execute(SkinHandler::saveFile));
+
+        HCore.registerEvent(PluginDisableEvent.class)
+                .filter(event -> event.getPlugin().equals(HCore.getInstance()))
+                .consume(event -> SkinHandler.saveFile());
+    }
+
+    /**
+     * Sets mojang api urls. Names are appended
+     * to profile url and uuids to session url.
+     *
+     * @param profile Profile url.
+     * @param session Session url.
+     */
+    public static void setUrls(@Nonnull String profile, @Nonnull String session) {
+        profileUrl = Validate.notNull(profile, "profile url cannot be null!");
+        sessionUrl = Validate.notNull(session, "session url cannot be null!");
+    }
+
+    /**
+     * Sets time to live of cached skins.
+     *
+     * @param duration Duration.
+     * @param unit     Time unit.
+     */
+    public static void setTTL(long duration, @Nonnull TimeUnit unit) {
+        ttl = Validate.notNull(unit, "unit cannot be null!").toMillis(duration);
+    }
+
+    /**
+     * Sets connect and read timeout
+     * of http requests.
+     *
+     * @param duration Duration.
+     * @param unit     Time unit.
+     */
+    public static void setTimeout(long duration, @Nonnull TimeUnit unit) {
+        timeout = (int) Validate.notNull(unit, "unit cannot be null!").toMillis(duration);
+    }
+
+    /**
+     * Sets maximum name lookups per minute.
+     *
+     * @param lookups Lookups per minute.
+     */
+    public static void setRateLimit(int lookups) {
+        Validate.isTrue(lookups <= 0, "rate limit must be bigger than 0!");
+        interval = TimeUnit.MINUTES.toMillis(1) / lookups;
+    }
+
+    /**
+     * Gets cached skin of player
+     * if it is not expired.
+     *
+     * @param playerName Player name.
+     * @return Skin as optional.
+     */
+    @Nonnull
+    public static Optional<Skin> getCached(@Nonnull String playerName) {
+        Validate.notNull(playerName, "player name cannot be null!");
+
+        String key = playerName.toLowerCase(Locale.ROOT);
+        CachedSkin cached = cache.get(key);
+        if (cached == null)
+            return Optional.empty();
+        if (System.currentTimeMillis() - cached.time > ttl) {
+            cache.remove(key, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached.skin);
+    }
+
+    /**
+     * Fetches skin of player asynchronously.
+     * If there is already a request for the
+     * same name, its future is returned.
+     *
+     * @param playerName Player name.
+     * @return Future of skin.
+     */
+    @Nonnull
+    public static CompletableFuture<Skin> fetch(@Nonnull String playerName) {
+        Optional<Skin> cached = SkinHandler.getCached(playerName);
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(cached.get());
+
+        String key = playerName.toLowerCase(Locale.ROOT);
+        CompletableFuture<Skin> created = new CompletableFuture<>();
+        CompletableFuture<Skin> future = requests.putIfAbsent(key, created);
+        if (future != null)
+            return future;
+
+        executor.schedule(() -> {
+            try {
+                Skin skin = SkinHandler.request(playerName);
+                cache.put(key, new CachedSkin(skin, System.currentTimeMillis()));
+                dirty = true;
+                created.complete(skin);
+            } catch (Exception e) {
+                created.completeExceptionally(e);
+            } finally {
+                requests.remove(key, created);
+            }
+        }, SkinHandler.reserveSlot(), TimeUnit.MILLISECONDS);
+
+        return created;
+    }
+
+
+
+    /**
+     * Reserves next request slot
+     * for the rate limit.
+     *
+     * @return Delay to the slot as millisecond.
+     */
+    private static synchronized long reserveSlot() {
+        long now = System.currentTimeMillis();
+        long slot = Math.max(now, nextSlot);
+        nextSlot = slot + interval;
+        return slot - now;
+    }
+
+    /**
+     * Requests skin of player
+     * from mojang api.
+     *
+     * @param playerName Player name.
+     * @return Skin.
+     * @throws IOException If request fails.
+     */
+    @Nonnull
+    private static Skin request(@Nonnull String playerName) throws IOException {
+        JsonObject profile = SkinHandler.readJson(profileUrl + playerName);
+        if (profile == null || !profile.has("id"))
+            throw new IOException("profile of " + playerName + " not found!");
+
+        JsonObject session = SkinHandler.readJson(sessionUrl + profile.get("id").getAsString() + "?unsigned=false");
+        if (session == null || !session.has("properties"))
+            throw new IOException("session of " + playerName + " not found!");
+
+        JsonObject property = session.get("properties").getAsJsonArray().get(0).getAsJsonObject();
+        return new Skin(property.get("value").getAsString(), property.get("signature").getAsString());
+    }
+
+    /**
+     * Reads json object from url.
+     *
+     * @param url Url.
+     * @return Json object, if there is no content returns null.
+     * @throws IOException If request fails.
+     */
+    private static JsonObject readJson(@Nonnull String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+
+        try {
+            int code = connection.getResponseCode();
+            if (code == HttpURLConnection.HTTP_NO_CONTENT || code == HttpURLConnection.HTTP_NOT_FOUND)
+                return null;
+            if (code != HttpURLConnection.HTTP_OK)
+                throw new IOException("unexpected response code " + code + " from " + url);
+
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                return new JsonParser().parse(reader).getAsJsonObject();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Loads cached skins from disk.
+     */
+    private static void loadFile() {
+        if (file == null || !file.exists())
+            return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_VERSION)
+                return;
+
+            long now = System.currentTimeMillis();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String name = in.readUTF();
+                String texture = in.readUTF();
+                String signature = in.readUTF();
+                long time = in.readLong();
+
+                if (now - time <= ttl)
+                    cache.putIfAbsent(name, new CachedSkin(new Skin(texture, signature), time));
+            }
+        } catch (Exception e) {
+            HCore.getInstance().getLogger().log(Level.WARNING, "could not load skin cache from " + file, e);
+        }
+    }
+
+    /**
+     * Saves cached skins to disk and
+     * evicts expired ones from memory.
+     */
+    private static synchronized void saveFile() {
+        long now = System.currentTimeMillis();
+        cache.entrySet().removeIf(entry -> now - entry.getValue().time > ttl);
+
+        if (file == null || !dirty)
+            return;
+        dirty = false;
+
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs())
+            return;
+
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            Map<String, CachedSkin> entries = new HashMap<>(cache);
+
+            out.writeInt(FILE_VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, CachedSkin> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue().skin.getTexture());
+                out.writeUTF(entry.getValue().skin.getSignature());
+                out.writeLong(entry.getValue().time);
+            }
+        } catch (IOException e) {
+            HCore.getInstance().getLogger().log(Level.WARNING, "could not save skin cache to " + temp, e);
+            return;
+        }
+
+        if ((file.exists() && !file.delete()) || !temp.renameTo(file))
+            HCore.getInstance().getLogger().log(Level.WARNING, "could not save skin cache to " + file);
+    }
+
+    /**
+     * Cached skin with its fetch time.
+     */
+    private static final class CachedSkin {
+
+        private final Skin skin;
+        private final long time;
+
+        /**
+         * Creates new instance of this class.
+         *
+         * @param skin Skin.
+         * @param time Fetch time as millisecond.
+         */
+        private CachedSkin(@Nonnull Skin skin, long time) {
+            this.skin = skin;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.hakan.core.snapshot;
+
+import javax.annotation.Nonnull;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Snapshot interface to store
+ * state of a hologram or npc
+ * and restore it later.
+ */
+public interface Snapshot {
+
+    /**
+     * Type id of hologram snapshots.
+     */
+    byte HOLOGRAM = 0;
+
+    /**
+     * Type id of npc snapshots.
+     */
+    byte NPC = 1;
+
+
+    /**
+     * Gets type id of snapshot.
+     *
+     * @return Type id.
+     */
+    byte getType();
+
+    /**
+     * Gets id of snapshot owner.
+     *
+     * @return Id.
+     */
+    @Nonnull
+    String getId();
+
+    /**
+     * Gets world name of snapshot.
+     *
+     * @return World name.
+     */
+    @Nonnull
+    String getWorld();
+
+    /**
+     * Gets chunk key of snapshot.
+     *
+     * @return Chunk key.
+     */
+    long getChunkKey();
+
+    /**
+     * Writes snapshot to output stream.
+     * World name is not written because
+     * snapshots are grouped by world.
+     *
+     * @param out Output stream.
+     * @throws IOException If an I/O error occurs.
+     */
+    void write(@Nonnull DataOutputStream out) throws IOException;
+
+    /**
+     * Restores snapshot. This method
+     * must be called in main thread.
+     *
+     * @return If snapshot is restored, returns true.
+     */
+    boolean restore();
+}
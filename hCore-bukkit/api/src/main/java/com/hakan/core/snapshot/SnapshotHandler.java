@@ -0,0 +1,345 @@
+package com.hakan.core.snapshot;
+
+import com.hakan.core.HCore;
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.hologram.HologramHandler;
+import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcHandler;
+import com.hakan.core.snapshot.hologram.HologramSnapshot;
+import com.hakan.core.snapshot.npc.NpcSnapshot;
+import com.hakan.core.snapshot.utils.SnapshotUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.event.world.ChunkLoadEvent;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SnapshotHandler class to save holograms
+ * and npcs to a binary file and restore
+ * them lazily when their chunks are loaded.
+ * <p>
+ * File layout: magic, version, world count and
+ * for each world its name, chunk count and for each
+ * chunk its key, entry count and entries.
+ */
+public final class SnapshotHandler {
+
+    private static final int MAGIC = 0x48435350;
+    private static final byte VERSION = 1;
+    private static final String NPC_HOLOGRAM_PREFIX = "hcore_npc_hologram:";
+
+    private static final Map<String, Map<Long, List<Snapshot>>> pending = new HashMap<>();
+    private static final Queue<Snapshot> restoreQueue = new ArrayDeque<>();
+    private static int restoreLimit = 50;
+
+    /**
+     * Initializes the snapshot system.
+     */
+    public static void initialize() {
+        HCore.registerEvent(ChunkLoadEvent.class)
+                .filter(event -> !pending.isEmpty())
+                .consume(event -> SnapshotHandler.enqueue(event.getChunk()));
+
+        HCore.syncScheduler().every(1)
+                .freezeIf((task) -> restoreQueue.isEmpty())
+                .run(() -> {
+                    for (int i = 0; i < restoreLimit && !restoreQueue.isEmpty(); i++)
+                        restoreQueue.poll().restore();
+                });
+    }
+
+    /**
+     * Gets maximum snapshot count
+     * restored in a tick.
+     *
+     * @return Restore limit.
+     */
+    public static int getRestoreLimit() {
+        return restoreLimit;
+    }
+
+    /**
+     * Sets maximum snapshot count
+     * restored in a tick.
+     *
+     * @param limit Restore limit.
+     */
+    public static void setRestoreLimit(int limit) {
+        Validate.isTrue(limit <= 0, "restore limit must be bigger than 0!");
+        restoreLimit = limit;
+    }
+
+    /**
+     * Gets count of snapshots which are
+     * waiting for their chunks to be loaded.
+     *
+     * @return Pending snapshot count.
+     */
+    public static int getPendingCount() {
+        int count = 0;
+        for (Map<Long, List<Snapshot>> chunks : pending.values())
+            for (List<Snapshot> snapshots : chunks.values())
+                count += snapshots.size();
+        return count + restoreQueue.size();
+    }
+
+    /**
+     * Saves all holograms, npcs and not yet
+     * restored snapshots to the file. Snapshots are
+     * taken in the calling thread (must be main thread)
+     * and written to the file asynchronously.
+     *
+     * @param file File.
+     * @return Future of written snapshot count.
+     */
+    @Nonnull
+    public static CompletableFuture<Integer> save(@Nonnull File file) {
+        Validate.notNull(file, "file cannot be null!");
+
+        Map<String, Map<Long, List<Snapshot>>> worlds = new HashMap<>();
+        for (Hologram hologram : HologramHandler.getValues())
+            if (!hologram.getId().startsWith(NPC_HOLOGRAM_PREFIX))
+                SnapshotHandler.put(worlds, HologramSnapshot.of(hologram));
+        for (Npc npc : NpcHandler.getValues())
+            SnapshotHandler.put(worlds, NpcSnapshot.of(npc));
+        for (Map<Long, List<Snapshot>> chunks : pending.values())
+            for (List<Snapshot> snapshots : chunks.values())
+                snapshots.forEach(snapshot -> SnapshotHandler.put(worlds, snapshot));
+        restoreQueue.forEach(snapshot -> SnapshotHandler.put(worlds, snapshot));
+
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        HCore.asyncScheduler().run(() -> {
+            try {
+                future.complete(SnapshotHandler.write(file, worlds));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Loads snapshots from the file asynchronously.
+     * Snapshots in loaded chunks are restored over next
+     * ticks, others are restored when their chunks are loaded.
+     *
+     * @param file File.
+     * @return Future of read snapshot count.
+     */
+    @Nonnull
+    public static CompletableFuture<Integer> load(@Nonnull File file) {
+        Validate.notNull(file, "file cannot be null!");
+
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        HCore.asyncScheduler().run(() -> {
+            try {
+                Map<String, Map<Long, List<Snapshot>>> worlds = SnapshotHandler.read(file);
+                HCore.syncScheduler().run(() -> {
+                    int count = 0;
+                    for (Map.Entry<String, Map<Long, List<Snapshot>>> entry : worlds.entrySet()) {
+                        Map<Long, List<Snapshot>> chunks = pending.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+                        for (Map.Entry<Long, List<Snapshot>> chunk : entry.getValue().entrySet()) {
+                            chunks.computeIfAbsent(chunk.getKey(), k -> new ArrayList<>()).addAll(chunk.getValue());
+                            count += chunk.getValue().size();
+                        }
+                    }
+
+                    for (World world : Bukkit.getWorlds())
+                        SnapshotHandler.enqueueLoaded(world);
+
+                    future.complete(count);
+                });
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+
+
+    /**
+     * Moves pending snapshots of the chunk
+     * to the restore queue.
+     *
+     * @param chunk Chunk.
+     */
+    private static void enqueue(@Nonnull Chunk chunk) {
+        Map<Long, List<Snapshot>> chunks = pending.get(chunk.getWorld().getName());
+        if (chunks == null)
+            return;
+
+        List<Snapshot> snapshots = chunks.remove(SnapshotUtils.chunkKey(chunk.getX(), chunk.getZ()));
+        if (snapshots != null)
+            restoreQueue.addAll(snapshots);
+        if (chunks.isEmpty())
+            pending.remove(chunk.getWorld().getName());
+    }
+
+    /**
+     * Moves pending snapshots of all loaded
+     * chunks in the world to the restore queue.
+     *
+     * @param world World.
+     */
+    private static void enqueueLoaded(@Nonnull World world) {
+        Map<Long, List<Snapshot>> chunks = pending.get(world.getName());
+        if (chunks == null)
+            return;
+
+        Iterator<Map.Entry<Long, List<Snapshot>>> iterator = chunks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, List<Snapshot>> entry = iterator.next();
+            if (world.isChunkLoaded(SnapshotUtils.chunkX(entry.getKey()), SnapshotUtils.chunkZ(entry.getKey()))) {
+                restoreQueue.addAll(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        if (chunks.isEmpty())
+            pending.remove(world.getName());
+    }
+
+    /**
+     * Puts snapshot to the world/chunk map.
+     *
+     * @param worlds   World/chunk map.
+     * @param snapshot Snapshot.
+     */
+    private static void put(@Nonnull Map<String, Map<Long, List<Snapshot>>> worlds, @Nonnull Snapshot snapshot) {
+        worlds.computeIfAbsent(snapshot.getWorld(), k -> new HashMap<>())
+                .computeIfAbsent(snapshot.getChunkKey(), k -> new ArrayList<>())
+                .add(snapshot);
+    }
+
+    /**
+     * Writes snapshots to the file.
+     *
+     * @param file   File.
+     * @param worlds World/chunk map.
+     * @return Written snapshot count.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static int write(@Nonnull File file, @Nonnull Map<String, Map<Long, List<Snapshot>>> worlds) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs())
+            throw new IOException("could not create directory: " + parent);
+
+        File temp = new File(file.getPath() + ".tmp");
+        int count = 0;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(worlds.size());
+
+            for (Map.Entry<String, Map<Long, List<Snapshot>>> world : worlds.entrySet()) {
+                SnapshotUtils.writeString(out, world.getKey());
+                out.writeInt(world.getValue().size());
+
+                for (Map.Entry<Long, List<Snapshot>> chunk : world.getValue().entrySet()) {
+                    out.writeLong(chunk.getKey());
+                    out.writeInt(chunk.getValue().size());
+
+                    for (Snapshot snapshot : chunk.getValue()) {
+                        out.writeByte(snapshot.getType());
+                        snapshot.write(out);
+                        count++;
+                    }
+                }
+            }
+        }
+
+        if (file.exists() && !file.delete())
+            throw new IOException("could not replace file: " + file);
+        if (!temp.renameTo(file))
+            throw new IOException("could not rename file: " + temp);
+
+        return count;
+    }
+
+    /**
+     * Reads snapshots from the memory
+     * mapped file.
+     *
+     * @param file File.
+     * @return World/chunk map.
+     * @throws IOException If an I/O error occurs.
+     */
+    @Nonnull
+    private static Map<String, Map<Long, List<Snapshot>>> read(@Nonnull File file) throws IOException {
+        Map<String, Map<Long, List<Snapshot>>> worlds = new HashMap<>();
+        if (!file.exists())
+            return worlds;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("invalid snapshot file: " + file);
+            if (buffer.get() != VERSION)
+                throw new IOException("unsupported snapshot file version: " + file);
+
+            int worldSize = buffer.getInt();
+            for (int w = 0; w < worldSize; w++) {
+                String world = SnapshotUtils.readString(buffer);
+                int chunkSize = buffer.getInt();
+                Map<Long, List<Snapshot>> chunks = new HashMap<>(Math.max(16, chunkSize * 2));
+
+                for (int c = 0; c < chunkSize; c++) {
+                    long chunkKey = buffer.getLong();
+                    int entrySize = buffer.getInt();
+                    List<Snapshot> snapshots = new ArrayList<>(entrySize);
+
+                    for (int e = 0; e < entrySize; e++)
+                        snapshots.add(SnapshotHandler.readSnapshot(buffer, world));
+                    chunks.put(chunkKey, snapshots);
+                }
+
+                worlds.put(world, chunks);
+            }
+        }
+
+        return worlds;
+    }
+
+    /**
+     * Reads a snapshot by its type.
+     *
+     * @param buffer Buffer.
+     * @param world  World name.
+     * @return Snapshot.
+     * @throws IOException If type is unknown.
+     */
+    @Nonnull
+    private static Snapshot readSnapshot(@Nonnull ByteBuffer buffer, @Nonnull String world) throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case Snapshot.HOLOGRAM:
+                return HologramSnapshot.read(buffer, world);
+            case Snapshot.NPC:
+                return NpcSnapshot.read(buffer, world);
+            default:
+                throw new IOException("unknown snapshot type: " + type);
+        }
+    }
+}
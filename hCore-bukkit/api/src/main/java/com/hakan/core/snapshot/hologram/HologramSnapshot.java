@@ -0,0 +1,224 @@
+package com.hakan.core.snapshot.hologram;
+
+import com.hakan.core.hologram.Hologram;
+import com.hakan.core.hologram.HologramHandler;
+import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.hologram.line.item.ItemLine;
+import com.hakan.core.hologram.line.text.TextLine;
+import com.hakan.core.snapshot.Snapshot;
+import com.hakan.core.snapshot.utils.SnapshotUtils;
+import com.hakan.core.utils.Serializer;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * HologramSnapshot class to store
+ * hologram lines, location, viewers
+ * and line distance.
+ */
+public final class HologramSnapshot implements Snapshot {
+
+    private static final byte EMPTY_LINE = 0;
+    private static final byte TEXT_LINE = 1;
+    private static final byte ITEM_LINE = 2;
+
+    /**
+     * Creates snapshot of hologram.
+     * This method must be called in main thread.
+     *
+     * @param hologram Hologram.
+     * @return Snapshot.
+     */
+    @Nonnull
+    public static HologramSnapshot of(@Nonnull Hologram hologram) {
+        Validate.notNull(hologram, "hologram cannot be null!");
+
+        List<HologramLine> lines = hologram.getLines();
+        byte[] lineTypes = new byte[lines.size()];
+        String[] lineValues = new String[lines.size()];
+
+        for (int i = 0; i < lines.size(); i++) {
+            HologramLine line = lines.get(i);
+            if (line instanceof TextLine) {
+                lineTypes[i] = TEXT_LINE;
+                lineValues[i] = ((TextLine) line).getText();
+            } else if (line instanceof ItemLine) {
+                lineTypes[i] = ITEM_LINE;
+                lineValues[i] = Serializer.serialize(((ItemLine) line).getItem());
+            } else {
+                lineTypes[i] = EMPTY_LINE;
+                lineValues[i] = "";
+            }
+        }
+
+        Location location = hologram.getLocation();
+        return new HologramSnapshot(hologram.getId(),
+                Validate.notNull(location.getWorld(), "world cannot be null!").getName(),
+                SnapshotUtils.fromLocation(location),
+                new HashSet<>(hologram.getRenderer().getViewers()),
+                hologram.canEveryoneSee(),
+                hologram.getLineDistance(),
+                lineTypes, lineValues);
+    }
+
+    /**
+     * Reads snapshot from buffer.
+     *
+     * @param buffer Buffer.
+     * @param world  World name.
+     * @return Snapshot.
+     */
+    @Nonnull
+    public static HologramSnapshot read(@Nonnull ByteBuffer buffer, @Nonnull String world) {
+        String id = SnapshotUtils.readString(buffer);
+        double[] location = SnapshotUtils.readLocation(buffer);
+        Set<UUID> viewers = SnapshotUtils.readUIDs(buffer);
+        boolean showEveryone = buffer.get() == 1;
+        double lineDistance = buffer.getDouble();
+
+        int size = buffer.getInt();
+        byte[] lineTypes = new byte[size];
+        String[] lineValues = new String[size];
+        for (int i = 0; i < size; i++) {
+            lineTypes[i] = buffer.get();
+            lineValues[i] = (lineTypes[i] == EMPTY_LINE) ? "" : SnapshotUtils.readString(buffer);
+        }
+
+        return new HologramSnapshot(id, world, location, viewers, showEveryone, lineDistance, lineTypes, lineValues);
+    }
+
+
+
+    private final String id;
+    private final String world;
+    private final double[] location;
+    private final Set<UUID> viewers;
+    private final boolean showEveryone;
+    private final double lineDistance;
+    private final byte[] lineTypes;
+    private final String[] lineValues;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param id           Hologram id.
+     * @param world        World name.
+     * @param location     Coordinates as [x, y, z, yaw, pitch].
+     * @param viewers      Viewers.
+     * @param showEveryone Show everyone.
+     * @param lineDistance Line distance.
+     * @param lineTypes    Line types.
+     * @param lineValues   Line values.
+     */
+    private HologramSnapshot(@Nonnull String id,
+                             @Nonnull String world,
+                             @Nonnull double[] location,
+                             @Nonnull Set<UUID> viewers,
+                             boolean showEveryone,
+                             double lineDistance,
+                             @Nonnull byte[] lineTypes,
+                             @Nonnull String[] lineValues) {
+        this.id = id;
+        this.world = world;
+        this.location = location;
+        this.viewers = viewers;
+        this.showEveryone = showEveryone;
+        this.lineDistance = lineDistance;
+        this.lineTypes = lineTypes;
+        this.lineValues = lineValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte getType() {
+        return HOLOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getChunkKey() {
+        return SnapshotUtils.chunkKey(this.location[0], this.location[2]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@Nonnull DataOutputStream out) throws IOException {
+        SnapshotUtils.writeString(out, this.id);
+        SnapshotUtils.writeLocation(out, this.location);
+        SnapshotUtils.writeUIDs(out, this.viewers);
+        out.writeByte(this.showEveryone ? 1 : 0);
+        out.writeDouble(this.lineDistance);
+
+        out.writeInt(this.lineTypes.length);
+        for (int i = 0; i < this.lineTypes.length; i++) {
+            out.writeByte(this.lineTypes[i]);
+            if (this.lineTypes[i] != EMPTY_LINE)
+                SnapshotUtils.writeString(out, this.lineValues[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean restore() {
+        if (HologramHandler.has(this.id))
+            return false;
+
+        Location location = SnapshotUtils.toLocation(this.world, this.location);
+        if (location == null)
+            return false;
+
+        Hologram hologram = HologramHandler.builder(this.id)
+                .location(location)
+                .setViewers(new HashSet<>(this.viewers))
+                .showEveryone(this.showEveryone)
+                .lineDistance(this.lineDistance)
+                .build();
+
+        for (int i = 0; i < this.lineTypes.length; i++) {
+            if (this.lineTypes[i] == TEXT_LINE)
+                hologram.addLine(this.lineValues[i]);
+            else if (this.lineTypes[i] == ITEM_LINE)
+                hologram.addLine(Serializer.deserialize(this.lineValues[i], ItemStack.class));
+            else
+                hologram.addLine(null);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,241 @@
+package com.hakan.core.snapshot.npc;
+
+import com.hakan.core.hologram.line.HologramLine;
+import com.hakan.core.hologram.line.text.TextLine;
+import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcHandler;
+import com.hakan.core.skin.Skin;
+import com.hakan.core.snapshot.Snapshot;
+import com.hakan.core.snapshot.utils.SnapshotUtils;
+import com.hakan.core.utils.Serializer;
+import com.hakan.core.utils.Validate;
+import org.bukkit.Location;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * NpcSnapshot class to store
+ * npc skin, equipments, look target,
+ * lines, location and viewers.
+ */
+public final class NpcSnapshot implements Snapshot {
+
+    /**
+     * Creates snapshot of npc.
+     * This method must be called in main thread.
+     *
+     * @param npc Npc.
+     * @return Snapshot.
+     */
+    @Nonnull
+    public static NpcSnapshot of(@Nonnull Npc npc) {
+        Validate.notNull(npc, "npc cannot be null!");
+
+        List<String> lines = new ArrayList<>();
+        for (HologramLine line : npc.getHologram().getLines())
+            lines.add((line instanceof TextLine) ? ((TextLine) line).getText() : "");
+
+        Map<Npc.EquipmentType, String> equipments = new EnumMap<>(Npc.EquipmentType.class);
+        npc.getEquipments().forEach((type, item) -> equipments.put(type, Serializer.serialize(item)));
+
+        return new NpcSnapshot(npc.getID(),
+                npc.getWorld().getName(),
+                SnapshotUtils.fromLocation(npc.getLocation()),
+                npc.getSkin().getTexture(),
+                npc.getSkin().getSignature(),
+                npc.getLookTarget(),
+                lines,
+                new HashSet<>(npc.getRenderer().getViewers()),
+                equipments,
+                npc.canEveryoneSee(),
+                npc.getAction().getClickDelay());
+    }
+
+    /**
+     * Reads snapshot from buffer.
+     *
+     * @param buffer Buffer.
+     * @param world  World name.
+     * @return Snapshot.
+     */
+    @Nonnull
+    public static NpcSnapshot read(@Nonnull ByteBuffer buffer, @Nonnull String world) {
+        String id = SnapshotUtils.readString(buffer);
+        double[] location = SnapshotUtils.readLocation(buffer);
+        String texture = SnapshotUtils.readString(buffer);
+        String signature = SnapshotUtils.readString(buffer);
+        Npc.LookTarget target = Npc.LookTarget.values()[buffer.get()];
+
+        int lineSize = buffer.getInt();
+        List<String> lines = new ArrayList<>(lineSize);
+        for (int i = 0; i < lineSize; i++)
+            lines.add(SnapshotUtils.readString(buffer));
+
+        Set<UUID> viewers = SnapshotUtils.readUIDs(buffer);
+
+        int equipmentSize = buffer.get();
+        Map<Npc.EquipmentType, String> equipments = new EnumMap<>(Npc.EquipmentType.class);
+        for (int i = 0; i < equipmentSize; i++)
+            equipments.put(Npc.EquipmentType.values()[buffer.get()], SnapshotUtils.readString(buffer));
+
+        boolean showEveryone = buffer.get() == 1;
+        long clickDelay = buffer.getLong();
+
+        return new NpcSnapshot(id, world, location, texture, signature, target,
+                lines, viewers, equipments, showEveryone, clickDelay);
+    }
+
+
+
+    private final String id;
+    private final String world;
+    private final double[] location;
+    private final String texture;
+    private final String signature;
+    private final Npc.LookTarget target;
+    private final List<String> lines;
+    private final Set<UUID> viewers;
+    private final Map<Npc.EquipmentType, String> equipments;
+    private final boolean showEveryone;
+    private final long clickDelay;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param id           Npc id.
+     * @param world        World name.
+     * @param location     Coordinates as [x, y, z, yaw, pitch].
+     * @param texture      Skin texture.
+     * @param signature    Skin signature.
+     * @param target       Look target.
+     * @param lines        Hologram lines.
+     * @param viewers      Viewers.
+     * @param equipments   Serialized equipments.
+     * @param showEveryone Show everyone.
+     * @param clickDelay   Click delay.
+     */
+    private NpcSnapshot(@Nonnull String id,
+                        @Nonnull String world,
+                        @Nonnull double[] location,
+                        @Nonnull String texture,
+                        @Nonnull String signature,
+                        @Nonnull Npc.LookTarget target,
+                        @Nonnull List<String> lines,
+                        @Nonnull Set<UUID> viewers,
+                        @Nonnull Map<Npc.EquipmentType, String> equipments,
+                        boolean showEveryone,
+                        long clickDelay) {
+        this.id = id;
+        this.world = world;
+        this.location = location;
+        this.texture = texture;
+        this.signature = signature;
+        this.target = target;
+        this.lines = lines;
+        this.viewers = viewers;
+        this.equipments = equipments;
+        this.showEveryone = showEveryone;
+        this.clickDelay = clickDelay;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte getType() {
+        return NPC;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getChunkKey() {
+        return SnapshotUtils.chunkKey(this.location[0], this.location[2]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@Nonnull DataOutputStream out) throws IOException {
+        SnapshotUtils.writeString(out, this.id);
+        SnapshotUtils.writeLocation(out, this.location);
+        SnapshotUtils.writeString(out, this.texture);
+        SnapshotUtils.writeString(out, this.signature);
+        out.writeByte(this.target.ordinal());
+
+        out.writeInt(this.lines.size());
+        for (String line : this.lines)
+            SnapshotUtils.writeString(out, line);
+
+        SnapshotUtils.writeUIDs(out, this.viewers);
+
+        out.writeByte(this.equipments.size());
+        for (Map.Entry<Npc.EquipmentType, String> entry : this.equipments.entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            SnapshotUtils.writeString(out, entry.getValue());
+        }
+
+        out.writeByte(this.showEveryone ? 1 : 0);
+        out.writeLong(this.clickDelay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean restore() {
+        if (NpcHandler.has(this.id))
+            return false;
+
+        Location location = SnapshotUtils.toLocation(this.world, this.location);
+        if (location == null)
+            return false;
+
+        Map<Npc.EquipmentType, ItemStack> equipments = new EnumMap<>(Npc.EquipmentType.class);
+        this.equipments.forEach((type, item) -> equipments.put(type, Serializer.deserialize(item, ItemStack.class)));
+
+        Npc npc = NpcHandler.npcBuilder(this.id)
+                .location(location)
+                .skin(new Skin(this.texture, this.signature))
+                .target(this.target)
+                .lines(new ArrayList<>(this.lines))
+                .viewers(new HashSet<>(this.viewers))
+                .equipments(equipments)
+                .showEveryone(this.showEveryone)
+                .build();
+        npc.getAction().setClickDelay(this.clickDelay);
+
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+package com.hakan.core.snapshot.utils;
+
+import com.hakan.core.utils.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SnapshotUtils class to write and
+ * read snapshot values as binary.
+ */
+public final class SnapshotUtils {
+
+    /**
+     * Creates chunk key from chunk coordinates.
+     *
+     * @param chunkX Chunk x.
+     * @param chunkZ Chunk z.
+     * @return Chunk key.
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Creates chunk key from block coordinates.
+     *
+     * @param x Block x.
+     * @param z Block z.
+     * @return Chunk key.
+     */
+    public static long chunkKey(double x, double z) {
+        return SnapshotUtils.chunkKey((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+    }
+
+    /**
+     * Gets chunk x from chunk key.
+     *
+     * @param chunkKey Chunk key.
+     * @return Chunk x.
+     */
+    public static int chunkX(long chunkKey) {
+        return (int) (chunkKey >> 32);
+    }
+
+    /**
+     * Gets chunk z from chunk key.
+     *
+     * @param chunkKey Chunk key.
+     * @return Chunk z.
+     */
+    public static int chunkZ(long chunkKey) {
+        return (int) chunkKey;
+    }
+
+    /**
+     * Writes string as length
+     * prefixed utf-8 bytes.
+     *
+     * @param out   Output stream.
+     * @param value Value.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void writeString(@Nonnull DataOutputStream out, @Nonnull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads length prefixed utf-8 string.
+     *
+     * @param buffer Buffer.
+     * @return Value.
+     */
+    @Nonnull
+    public static String readString(@Nonnull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes uuid set.
+     *
+     * @param out  Output stream.
+     * @param uids UIDs.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void writeUIDs(@Nonnull DataOutputStream out, @Nonnull Set<UUID> uids) throws IOException {
+        out.writeInt(uids.size());
+        for (UUID uid : uids) {
+            out.writeLong(uid.getMostSignificantBits());
+            out.writeLong(uid.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Reads uuid set.
+     *
+     * @param buffer Buffer.
+     * @return UIDs.
+     */
+    @Nonnull
+    public static Set<UUID> readUIDs(@Nonnull ByteBuffer buffer) {
+        int size = buffer.getInt();
+        Set<UUID> uids = new HashSet<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++)
+            uids.add(new UUID(buffer.getLong(), buffer.getLong()));
+        return uids;
+    }
+
+    /**
+     * Converts location to coordinates
+     * as [x, y, z, yaw, pitch].
+     *
+     * @param location Location.
+     * @return Coordinates.
+     */
+    @Nonnull
+    public static double[] fromLocation(@Nonnull Location location) {
+        Validate.notNull(location, "location cannot be null!");
+        return new double[]{location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch()};
+    }
+
+    /**
+     * Writes location coordinates
+     * without world.
+     *
+     * @param out    Output stream.
+     * @param values Coordinates as [x, y, z, yaw, pitch].
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void writeLocation(@Nonnull DataOutputStream out, @Nonnull double[] values) throws IOException {
+        out.writeDouble(values[0]);
+        out.writeDouble(values[1]);
+        out.writeDouble(values[2]);
+        out.writeFloat((float) values[3]);
+        out.writeFloat((float) values[4]);
+    }
+
+    /**
+     * Reads location coordinates
+     * as [x, y, z, yaw, pitch].
+     *
+     * @param buffer Buffer.
+     * @return Coordinates.
+     */
+    @Nonnull
+    public static double[] readLocation(@Nonnull ByteBuffer buffer) {
+        return new double[]{buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getFloat(), buffer.getFloat()};
+    }
+
+    /**
+     * Creates location from world name
+     * and coordinates.
+     *
+     * @param worldName World name.
+     * @param values    Coordinates as [x, y, z, yaw, pitch].
+     * @return Location, if world is not loaded returns null.
+     */
+    @Nullable
+    public static Location toLocation(@Nonnull String worldName, @Nonnull double[] values) {
+        World world = Bukkit.getWorld(Validate.notNull(worldName, "world name cannot be null!"));
+        if (world == null)
+            return null;
+        return new Location(world, values[0], values[1], values[2], (float) values[3], (float) values[4]);
+    }
+}
@@ -0,0 +1,254 @@
+package com.hakan.core.spam;
+
+import com.hakan.core.utils.Validate;
+
+import java.util.Arrays;
+
+/**
+ * Debouncer class to check if the given
+ * long key is spamming or not. Keys are stored
+ * in a primitive open addressing map and expired
+ * by a time wheel while checking, so no
+ * scheduler or boxed key is needed.
+ */
+public final class Debouncer {
+
+    private final long resolution;
+    private final long[][] wheel;
+    private final int[] wheelSizes;
+
+    private long[] keys;
+    private long[] expiries;
+    private int size;
+    private long cursor;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param resolution Millisecond length of a wheel slot.
+     * @param slots      Slot count of the wheel.
+     */
+    public Debouncer(long resolution, int slots) {
+        Validate.isTrue(resolution <= 0, "resolution must be bigger than 0!");
+        Validate.isTrue(slots <= 0, "slots must be bigger than 0!");
+
+        this.resolution = resolution;
+        this.wheel = new long[slots][];
+        this.wheelSizes = new int[slots];
+        this.keys = new long[16];
+        this.expiries = new long[16];
+        this.size = 0;
+        this.cursor = -1;
+    }
+
+    /**
+     * Creates new instance of this class
+     * with a tick resolution and 128 slots.
+     */
+    public Debouncer() {
+        this(50, 128);
+    }
+
+    /**
+     * Gets count of keys which
+     * are in their window.
+     *
+     * @return Key count.
+     */
+    public synchronized int size() {
+        this.advance(System.currentTimeMillis());
+        return this.size;
+    }
+
+    /**
+     * Checks if key is spamming. If key is not
+     * in its window, a new window is started.
+     *
+     * @param key    Key.
+     * @param window Window as millisecond.
+     * @return True if spamming.
+     */
+    public synchronized boolean check(long key, long window) {
+        long now = System.currentTimeMillis();
+        this.advance(now);
+
+        int index = this.indexOf(key);
+        if (index != -1 && this.expiries[index] > now)
+            return true;
+        if (window <= 0)
+            return false;
+
+        long expiry = now + window;
+        if (index != -1) {
+            this.expiries[index] = expiry;
+        } else {
+            this.insert(key, expiry);
+        }
+        this.schedule(key, expiry);
+
+        return false;
+    }
+
+    /**
+     * Removes key from debouncer.
+     *
+     * @param key Key.
+     */
+    public synchronized void remove(long key) {
+        int index = this.indexOf(key);
+        if (index != -1) this.delete(index);
+    }
+
+    /**
+     * Clears all keys.
+     */
+    public synchronized void clear() {
+        Arrays.fill(this.expiries, 0);
+        Arrays.fill(this.wheelSizes, 0);
+        this.size = 0;
+    }
+
+
+
+    /**
+     * Expires keys in the wheel slots
+     * which are completely passed.
+     *
+     * @param now Current time as millisecond.
+     */
+    private void advance(long now) {
+        long tick = now / this.resolution;
+        if (this.cursor == -1 || tick - this.cursor > this.wheel.length)
+            this.cursor = tick - Math.min(tick, this.wheel.length);
+
+        for (; this.cursor < tick; this.cursor++) {
+            int slot = (int) (this.cursor % this.wheel.length);
+            long[] bucket = this.wheel[slot];
+            int bucketSize = this.wheelSizes[slot];
+            int kept = 0;
+
+            for (int i = 0; i < bucketSize; i++) {
+                long key = bucket[i];
+                int index = this.indexOf(key);
+                if (index == -1)
+                    continue;
+
+                long expiry = this.expiries[index];
+                if (expiry <= now) {
+                    this.delete(index);
+                } else if ((expiry / this.resolution) % this.wheel.length == slot) {
+                    bucket[kept++] = key;
+                }
+            }
+
+            this.wheelSizes[slot] = kept;
+        }
+    }
+
+    /**
+     * Adds key to the wheel slot of its expiry.
+     *
+     * @param key    Key.
+     * @param expiry Expiry as millisecond.
+     */
+    private void schedule(long key, long expiry) {
+        int slot = (int) ((expiry / this.resolution) % this.wheel.length);
+        long[] bucket = this.wheel[slot];
+
+        if (bucket == null) {
+            bucket = this.wheel[slot] = new long[8];
+        } else if (this.wheelSizes[slot] == bucket.length) {
+            bucket = this.wheel[slot] = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+
+        bucket[this.wheelSizes[slot]++] = key;
+    }
+
+    /**
+     * Finds table index of the key.
+     *
+     * @param key Key.
+     * @return Table index, -1 if key is not exist.
+     */
+    private int indexOf(long key) {
+        int mask = this.keys.length - 1;
+        for (int i = Debouncer.hash(key) & mask; this.expiries[i] != 0; i = (i + 1) & mask)
+            if (this.keys[i] == key)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Inserts key which is not in the table.
+     *
+     * @param key    Key.
+     * @param expiry Expiry as millisecond.
+     */
+    private void insert(long key, long expiry) {
+        if ((this.size + 1) * 2 > this.keys.length)
+            this.rehash(this.keys.length * 2);
+
+        int mask = this.keys.length - 1;
+        int i = Debouncer.hash(key) & mask;
+        while (this.expiries[i] != 0)
+            i = (i + 1) & mask;
+
+        this.keys[i] = key;
+        this.expiries[i] = expiry;
+        this.size++;
+    }
+
+    /**
+     * Deletes entry at the table index
+     * with backward shift deletion.
+     *
+     * @param index Table index.
+     */
+    private void delete(int index) {
+        int mask = this.keys.length - 1;
+        int hole = index;
+
+        for (int i = (hole + 1) & mask; this.expiries[i] != 0; i = (i + 1) & mask) {
+            int home = Debouncer.hash(this.keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                this.keys[hole] = this.keys[i];
+                this.expiries[hole] = this.expiries[i];
+                hole = i;
+            }
+        }
+
+        this.expiries[hole] = 0;
+        this.size--;
+    }
+
+    /**
+     * Resizes the table.
+     *
+     * @param capacity New capacity.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = this.keys;
+        long[] oldExpiries = this.expiries;
+
+        this.keys = new long[capacity];
+        this.expiries = new long[capacity];
+        this.size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldExpiries[i] != 0)
+                this.insert(oldKeys[i], oldExpiries[i]);
+    }
+
+    /**
+     * Mixes bits of the key.
+     *
+     * @param key Key.
+     * @return Hash.
+     */
+    private static int hash(long key) {
+        key ^= (key >>> 33);
+        key *= 0xff51afd7ed558ccdL;
+        key ^= (key >>> 33);
+        return (int) key;
+    }
+}
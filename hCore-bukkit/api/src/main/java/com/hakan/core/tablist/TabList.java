@@ -0,0 +1,309 @@
+package com.hakan.core.tablist;
+
+import com.hakan.core.HCore;
+import com.hakan.core.skin.Skin;
+import com.hakan.core.skin.SkinHandler;
+import com.hakan.core.utils.ColorUtil;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TabList is a class that manages
+ * header, footer and fake entries of
+ * tab list for player.
+ * <p>
+ * Last sent state is kept, so {@link #show()}
+ * only sends changed parts, and changed entries
+ * are batched into one packet per action.
+ */
+public abstract class TabList {
+
+    public static final int SLOTS = 80;
+
+    protected final Player player;
+    protected final TabSlot[] slots;
+    protected String header;
+    protected String footer;
+    private final TabSlot[] sentSlots;
+    private String sentHeader;
+    private String sentFooter;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param player Player.
+     */
+    public TabList(@Nonnull Player player) {
+        this.player = Validate.notNull(player, "player cannot be null!");
+        this.slots = new TabSlot[SLOTS];
+        this.sentSlots = new TabSlot[SLOTS];
+        this.header = "";
+        this.footer = "";
+        this.sentHeader = "";
+        this.sentFooter = "";
+    }
+
+    /**
+     * Checks if tab list still
+     * exists for player.
+     *
+     * @return True if tab list exists.
+     */
+    public final boolean isExist() {
+        return TabListHandler.getContent().get(this.player.getUniqueId()) == this;
+    }
+
+    /**
+     * Gets player.
+     *
+     * @return Player.
+     */
+    @Nonnull
+    public final Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Gets colored header.
+     *
+     * @return Header.
+     */
+    @Nonnull
+    public final String getHeader() {
+        return this.header;
+    }
+
+    /**
+     * Sets header.
+     *
+     * @param header Header.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList setHeader(@Nonnull String header) {
+        this.header = ColorUtil.colored(Validate.notNull(header, "header cannot be null!"));
+        return this;
+    }
+
+    /**
+     * Gets colored footer.
+     *
+     * @return Footer.
+     */
+    @Nonnull
+    public final String getFooter() {
+        return this.footer;
+    }
+
+    /**
+     * Sets footer.
+     *
+     * @param footer Footer.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList setFooter(@Nonnull String footer) {
+        this.footer = ColorUtil.colored(Validate.notNull(footer, "footer cannot be null!"));
+        return this;
+    }
+
+    /**
+     * Gets slot.
+     *
+     * @param slot Slot index.
+     * @return Slot, null if it is empty.
+     */
+    @Nullable
+    public final TabSlot getSlot(int slot) {
+        return this.slots[slot];
+    }
+
+    /**
+     * Sets text of slot. Skin
+     * and latency of slot are kept.
+     *
+     * @param slot Slot index.
+     * @param text Text.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList setSlot(int slot, @Nonnull String text) {
+        TabSlot current = this.slots[slot];
+        return this.setSlot(slot, text, (current != null) ? current.getSkin() : null, (current != null) ? current.getPing() : 0);
+    }
+
+    /**
+     * Sets slot.
+     *
+     * @param slot Slot index.
+     * @param text Text.
+     * @param skin Skin of head, null for default head.
+     * @param ping Latency in milliseconds.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList setSlot(int slot, @Nonnull String text, @Nullable Skin skin, int ping) {
+        Validate.notNull(text, "text cannot be null!");
+        this.slots[slot] = new TabSlot(ColorUtil.colored(text), skin, ping);
+        return this;
+    }
+
+    /**
+     * Sets skin of slot head to skin of
+     * player. Cached skins are set at once,
+     * others are fetched asynchronously and
+     * shown when they are ready.
+     *
+     * @param slot       Slot index.
+     * @param playerName Name of skin owner.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList setSlotSkin(int slot, @Nonnull String playerName) {
+        TabSlot current = this.slots[slot];
+        Validate.notNull(current, "slot(" + slot + ") is empty!");
+
+        Optional<Skin> cached = SkinHandler.getCached(playerName);
+        if (cached.isPresent()) {
+            this.slots[slot] = new TabSlot(current.getText(), cached.get(), current.getPing());
+            return this;
+        }
+
+        SkinHandler.fetch(playerName).thenAccept(skin -> HCore.syncScheduler().run(() -> {
+            TabSlot latest = this.slots[slot];
+            if (latest == null || !this.isExist())
+                return;
+
+            this.slots[slot] = new TabSlot(latest.getText(), skin, latest.getPing());
+            this.show();
+        }));
+        return this;
+    }
+
+    /**
+     * Removes slot.
+     *
+     * @param slot Slot index.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList removeSlot(int slot) {
+        this.slots[slot] = null;
+        return this;
+    }
+
+    /**
+     * Sends changed header, footer
+     * and slots to player.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList show() {
+        if (!this.header.equals(this.sentHeader) || !this.footer.equals(this.sentFooter)) {
+            this.sendHeaderFooter(this.header, this.footer);
+            this.sentHeader = this.header;
+            this.sentFooter = this.footer;
+        }
+
+        List<Integer> removed = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        List<Integer> renamed = new ArrayList<>();
+        List<Integer> pinged = new ArrayList<>();
+
+        for (int i = 0; i < SLOTS; i++) {
+            TabSlot slot = this.slots[i];
+            TabSlot sent = this.sentSlots[i];
+            if (slot == sent) continue;
+
+            if (slot == null) {
+                removed.add(i);
+            } else if (sent == null) {
+                added.add(i);
+            } else if (!slot.hasSameSkin(sent)) {
+                removed.add(i);
+                added.add(i);
+            } else {
+                if (!slot.getText().equals(sent.getText())) renamed.add(i);
+                if (slot.getPing() != sent.getPing()) pinged.add(i);
+            }
+            this.sentSlots[i] = slot;
+        }
+
+        if (!removed.isEmpty()) this.sendRemove(removed);
+        if (!added.isEmpty()) this.sendAdd(added);
+        if (!renamed.isEmpty()) this.sendDisplayName(renamed);
+        if (!pinged.isEmpty()) this.sendLatency(pinged);
+        return this;
+    }
+
+    /**
+     * Removes fake entries, clears header
+     * and footer and deletes tab list.
+     *
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public final TabList delete() {
+        List<Integer> removed = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            if (this.sentSlots[i] != null)
+                removed.add(i);
+            this.sentSlots[i] = null;
+        }
+
+        if (this.player.isOnline()) {
+            if (!removed.isEmpty()) this.sendRemove(removed);
+            this.sendHeaderFooter("", "");
+        }
+
+        this.sentHeader = "";
+        this.sentFooter = "";
+        TabListHandler.getContent().remove(this.player.getUniqueId(), this);
+        return this;
+    }
+
+
+
+    /**
+     * Sends header and footer.
+     *
+     * @param header Colored header.
+     * @param footer Colored footer.
+     */
+    protected abstract void sendHeaderFooter(@Nonnull String header, @Nonnull String footer);
+
+    /**
+     * Adds entries of slots.
+     *
+     * @param slots Slot indexes.
+     */
+    protected abstract void sendAdd(@Nonnull List<Integer> slots);
+
+    /**
+     * Updates display names of slots.
+     *
+     * @param slots Slot indexes.
+     */
+    protected abstract void sendDisplayName(@Nonnull List<Integer> slots);
+
+    /**
+     * Updates latencies of slots.
+     *
+     * @param slots Slot indexes.
+     */
+    protected abstract void sendLatency(@Nonnull List<Integer> slots);
+
+    /**
+     * Removes entries of slots.
+     *
+     * @param slots Slot indexes.
+     */
+    protected abstract void sendRemove(@Nonnull List<Integer> slots);
+}
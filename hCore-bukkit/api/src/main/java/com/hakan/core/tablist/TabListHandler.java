@@ -0,0 +1,116 @@
+package com.hakan.core.tablist;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.ReflectionUtils;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * TabListHandler class for creating
+ * tab lists for players.
+ */
+public final class TabListHandler {
+
+    private static final Map<UUID, TabList> tabLists = new HashMap<>();
+
+    /**
+     * Initialize method of TabList.
+     */
+    public static void initialize() {
+        HCore.registerEvent(PlayerQuitEvent.class)
+                .consume(event -> tabLists.remove(event.getPlayer().getUniqueId()));
+    }
+
+
+    /**
+     * Gets tab list map.
+     *
+     * @return Tab list map.
+     */
+    @Nonnull
+    public static Map<UUID, TabList> getContent() {
+        return tabLists;
+    }
+
+    /**
+     * Gets all tab lists as safe.
+     *
+     * @return Tab list list.
+     */
+    @Nonnull
+    public static Collection<TabList> getValuesSafe() {
+        return new ArrayList<>(tabLists.values());
+    }
+
+    /**
+     * Checks if tab list exists for player.
+     *
+     * @param uid UID of player.
+     * @return if tab list exists for player, returns true.
+     */
+    public static boolean has(@Nonnull UUID uid) {
+        Validate.notNull(uid, "uid cannot be null!");
+        return tabLists.containsKey(uid);
+    }
+
+    /**
+     * Finds a created tab list.
+     *
+     * @param player Player.
+     * @return Tab list as optional.
+     */
+    @Nonnull
+    public static Optional<TabList> findByPlayer(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        return Optional.ofNullable(tabLists.get(player.getUniqueId()));
+    }
+
+    /**
+     * Gets a created tab list.
+     *
+     * @param player Player.
+     * @return Tab list.
+     */
+    @Nonnull
+    public static TabList getByPlayer(@Nonnull Player player) {
+        return TabListHandler.findByPlayer(player).orElseThrow(() -> new NullPointerException("tab list(" + player.getUniqueId() + ") cannot be null!"));
+    }
+
+    /**
+     * Creates new instance of TabList as force.
+     *
+     * @param player Player.
+     * @return new instance of TabList.
+     */
+    @Nonnull
+    public static TabList forceCreate(@Nonnull Player player) {
+        TabListHandler.findByPlayer(player).ifPresent(TabList::delete);
+        return TabListHandler.create(player);
+    }
+
+    /**
+     * Creates new instance of TabList.
+     *
+     * @param player Player.
+     * @return new instance of TabList.
+     */
+    @Nonnull
+    public static TabList create(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.isTrue(has(player.getUniqueId()), "tab list of player(" + player.getUniqueId() + ") already exists!");
+
+        TabList tabList = ReflectionUtils.newInstance("com.hakan.core.tablist.versions.TabList_%s",
+                new Class[]{Player.class}, new Object[]{player});
+        tabLists.put(player.getUniqueId(), tabList);
+        return tabList;
+    }
+}
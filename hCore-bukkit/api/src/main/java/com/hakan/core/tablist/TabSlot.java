@@ -0,0 +1,77 @@
+package com.hakan.core.tablist;
+
+import com.hakan.core.skin.Skin;
+import com.hakan.core.utils.Validate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * TabSlot class to keep text, skin
+ * and latency of a fake tab list entry.
+ * Instances are immutable, so sent slots
+ * can be compared with current slots.
+ */
+public final class TabSlot {
+
+    private final String text;
+    private final Skin skin;
+    private final int ping;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param text Colored text.
+     * @param skin Skin of head, null for default head.
+     * @param ping Latency in milliseconds.
+     */
+    TabSlot(@Nonnull String text, @Nullable Skin skin, int ping) {
+        this.text = Validate.notNull(text, "text cannot be null!");
+        this.skin = skin;
+        this.ping = ping;
+    }
+
+    /**
+     * Gets colored text of slot.
+     *
+     * @return Text.
+     */
+    @Nonnull
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Gets skin of slot head.
+     *
+     * @return Skin, null for default head.
+     */
+    @Nullable
+    public Skin getSkin() {
+        return this.skin;
+    }
+
+    /**
+     * Gets latency of slot.
+     *
+     * @return Latency in milliseconds.
+     */
+    public int getPing() {
+        return this.ping;
+    }
+
+    /**
+     * Checks if skin of slot
+     * is same with other slot.
+     *
+     * @param slot Other slot.
+     * @return True if skins are same.
+     */
+    boolean hasSameSkin(@Nonnull TabSlot slot) {
+        if (this.skin == slot.skin)
+            return true;
+        return this.skin != null && slot.skin != null &&
+                Objects.equals(this.skin.getTexture(), slot.skin.getTexture());
+    }
+}
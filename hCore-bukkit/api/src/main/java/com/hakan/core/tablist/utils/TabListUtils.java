@@ -0,0 +1,249 @@
+package com.hakan.core.tablist.utils;
+
+import com.hakan.core.skin.Skin;
+import com.hakan.core.tablist.TabList;
+import com.hakan.core.tablist.TabSlot;
+import com.hakan.core.utils.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * TabListUtils class to write packet
+ * contents of tab list header, footer
+ * and fake entries. Texts are written as
+ * json components converted by versions.
+ * <p>
+ * Entries are named by slot index, so the
+ * client sorts them in slot order and fills
+ * columns from top to bottom.
+ */
+public final class TabListUtils {
+
+    private static final UUID[] UIDS = new UUID[TabList.SLOTS];
+
+    static {
+        for (int i = 0; i < UIDS.length; i++)
+            UIDS[i] = UUID.nameUUIDFromBytes(("hCore:tab:" + i).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets profile uid of slot.
+     *
+     * @param slot Slot index.
+     * @return Uid.
+     */
+    @Nonnull
+    public static UUID getUID(int slot) {
+        return UIDS[slot];
+    }
+
+    /**
+     * Gets profile uids of slots.
+     *
+     * @param slots Slot indexes.
+     * @return Uids.
+     */
+    @Nonnull
+    public static List<UUID> getUIDs(@Nonnull List<Integer> slots) {
+        List<UUID> uids = new ArrayList<>(slots.size());
+        slots.forEach(slot -> uids.add(UIDS[slot]));
+        return uids;
+    }
+
+    /**
+     * Gets profile name of slot.
+     *
+     * @param slot Slot index.
+     * @return Profile name.
+     */
+    @Nonnull
+    public static String getName(int slot) {
+        return (slot < 10) ? "!0" + slot : "!" + slot;
+    }
+
+    /**
+     * Writes header and footer content.
+     *
+     * @param header Header as json.
+     * @param footer Footer as json.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeHeaderFooter(@Nonnull String header, @Nonnull String footer) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeString(buf, header);
+        ByteBufUtils.writeString(buf, footer);
+        return buf;
+    }
+
+    /**
+     * Writes player info add content of
+     * slots for versions before 1.19.3.
+     *
+     * @param slots     Slot indexes.
+     * @param tabSlots  Slots of tab list.
+     * @param toJson    Function to convert text to json.
+     * @param publicKey Writes empty public key if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoAdd(@Nonnull List<Integer> slots, @Nonnull TabSlot[] tabSlots,
+                                       @Nonnull Function<String, String> toJson, boolean publicKey) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeVarInt(buf, 0);
+        ByteBufUtils.writeVarInt(buf, slots.size());
+        for (int slot : slots) {
+            TabSlot tabSlot = tabSlots[slot];
+            TabListUtils.writeProfile(buf, slot, tabSlot.getSkin());
+            ByteBufUtils.writeVarInt(buf, 0);
+            ByteBufUtils.writeVarInt(buf, tabSlot.getPing());
+            buf.writeBoolean(true);
+            ByteBufUtils.writeString(buf, toJson.apply(tabSlot.getText()));
+            if (publicKey) buf.writeBoolean(false);
+        }
+        return buf;
+    }
+
+    /**
+     * Writes player info update content of
+     * slots for 1.19.3 and later versions.
+     * Entries are added as listed.
+     *
+     * @param slots    Slot indexes.
+     * @param tabSlots Slots of tab list.
+     * @param toJson   Function to convert text to json.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoUpdate(@Nonnull List<Integer> slots, @Nonnull TabSlot[] tabSlots,
+                                          @Nonnull Function<String, String> toJson) {
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeByte(0x3D);
+        ByteBufUtils.writeVarInt(buf, slots.size());
+        for (int slot : slots) {
+            TabSlot tabSlot = tabSlots[slot];
+            buf.writeLong(UIDS[slot].getMostSignificantBits());
+            buf.writeLong(UIDS[slot].getLeastSignificantBits());
+            TabListUtils.writeProperties(buf, slot, tabSlot.getSkin());
+            ByteBufUtils.writeVarInt(buf, 0);
+            buf.writeBoolean(true);
+            ByteBufUtils.writeVarInt(buf, tabSlot.getPing());
+            buf.writeBoolean(true);
+            ByteBufUtils.writeString(buf, toJson.apply(tabSlot.getText()));
+        }
+        return buf;
+    }
+
+    /**
+     * Writes player info display name
+     * update content of slots.
+     *
+     * @param slots    Slot indexes.
+     * @param tabSlots Slots of tab list.
+     * @param toJson   Function to convert text to json.
+     * @param legacy   Writes content for versions before 1.19.3 if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoDisplayName(@Nonnull List<Integer> slots, @Nonnull TabSlot[] tabSlots,
+                                               @Nonnull Function<String, String> toJson, boolean legacy) {
+        ByteBuf buf = Unpooled.buffer();
+        if (legacy) ByteBufUtils.writeVarInt(buf, 3);
+        else buf.writeByte(0x20);
+        ByteBufUtils.writeVarInt(buf, slots.size());
+        for (int slot : slots) {
+            buf.writeLong(UIDS[slot].getMostSignificantBits());
+            buf.writeLong(UIDS[slot].getLeastSignificantBits());
+            buf.writeBoolean(true);
+            ByteBufUtils.writeString(buf, toJson.apply(tabSlots[slot].getText()));
+        }
+        return buf;
+    }
+
+    /**
+     * Writes player info latency
+     * update content of slots.
+     *
+     * @param slots    Slot indexes.
+     * @param tabSlots Slots of tab list.
+     * @param legacy   Writes content for versions before 1.19.3 if true.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoLatency(@Nonnull List<Integer> slots, @Nonnull TabSlot[] tabSlots, boolean legacy) {
+        ByteBuf buf = Unpooled.buffer();
+        if (legacy) ByteBufUtils.writeVarInt(buf, 2);
+        else buf.writeByte(0x10);
+        ByteBufUtils.writeVarInt(buf, slots.size());
+        for (int slot : slots) {
+            buf.writeLong(UIDS[slot].getMostSignificantBits());
+            buf.writeLong(UIDS[slot].getLeastSignificantBits());
+            ByteBufUtils.writeVarInt(buf, tabSlots[slot].getPing());
+        }
+        return buf;
+    }
+
+    /**
+     * Writes player info remove content
+     * for versions before 1.19.3.
+     *
+     * @param slots Slot indexes.
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf writeInfoRemove(@Nonnull List<Integer> slots) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeVarInt(buf, 4);
+        ByteBufUtils.writeVarInt(buf, slots.size());
+        for (int slot : slots) {
+            buf.writeLong(UIDS[slot].getMostSignificantBits());
+            buf.writeLong(UIDS[slot].getLeastSignificantBits());
+        }
+        return buf;
+    }
+
+
+
+    /**
+     * Writes game profile of slot.
+     *
+     * @param buf  Buffer.
+     * @param slot Slot index.
+     * @param skin Skin, null for default head.
+     */
+    private static void writeProfile(@Nonnull ByteBuf buf, int slot, @Nullable Skin skin) {
+        buf.writeLong(UIDS[slot].getMostSignificantBits());
+        buf.writeLong(UIDS[slot].getLeastSignificantBits());
+        TabListUtils.writeProperties(buf, slot, skin);
+    }
+
+    /**
+     * Writes profile name and
+     * texture property of slot.
+     *
+     * @param buf  Buffer.
+     * @param slot Slot index.
+     * @param skin Skin, null for default head.
+     */
+    private static void writeProperties(@Nonnull ByteBuf buf, int slot, @Nullable Skin skin) {
+        ByteBufUtils.writeString(buf, TabListUtils.getName(slot));
+        if (skin == null) {
+            ByteBufUtils.writeVarInt(buf, 0);
+            return;
+        }
+
+        ByteBufUtils.writeVarInt(buf, 1);
+        ByteBufUtils.writeString(buf, "textures");
+        ByteBufUtils.writeString(buf, skin.getTexture());
+        buf.writeBoolean(true);
+        ByteBufUtils.writeString(buf, skin.getSignature());
+    }
+}
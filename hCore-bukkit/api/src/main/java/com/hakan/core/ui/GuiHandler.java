@@ -10,22 +10,29 @@
 import com.hakan.core.ui.inventory.builder.InventoryBuilder;
 import com.hakan.core.ui.inventory.listeners.InventoryClickListener;
 import com.hakan.core.ui.inventory.listeners.InventoryCloseListener;
+import com.hakan.core.ui.inventory.shared.SharedInventoryGui;
 import com.hakan.core.ui.sign.SignGui;
 import com.hakan.core.ui.sign.builder.SignBuilder;
 import com.hakan.core.utils.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.PluginDisableEvent;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 /**
  * GuiHandler class to handle all GUIs
@@ -34,6 +41,7 @@
 public final class GuiHandler {
 
     private static final Map<UUID, Gui> guiMap = new HashMap<>();
+    private static final Set<SharedInventoryGui> sharedGuis = Collections.newSetFromMap(new WeakHashMap<>());
 
     /**
      * Initializes the inventory system.
@@ -45,6 +53,7 @@ public static void initialize() {
                 .consume(event -> {
                     Player player = event.getPlayer();
                     GuiHandler.findInventoryByPlayer(player).ifPresent(gui -> gui.close(player));
+                    new ArrayList<>(sharedGuis).forEach(gui -> gui.clearOverlay(player));
                 });
 
         HCore.registerEvent(PluginDisableEvent.class)
@@ -57,6 +66,16 @@ public static void initialize() {
                 new InventoryCloseListener()
         );
 
+        HCore.registerEvent(InventoryClickEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> GuiHandler.findInventoryByUID(event.getWhoClicked().getUniqueId()).ifPresent(InventoryGui::invalidate));
+
+        HCore.registerEvent(InventoryDragEvent.class)
+                .priority(EventPriority.MONITOR)
+                .filter(event -> !event.isCancelled())
+                .consume(event -> GuiHandler.findInventoryByUID(event.getWhoClicked().getUniqueId()).ifPresent(InventoryGui::invalidate));
+
 
         //ANVIL
         HCore.registerEvent(PlayerQuitEvent.class)
@@ -262,6 +281,17 @@ public static InventoryBuilder inventoryBuilder(@Nonnull String id) {
         return new InventoryBuilder(id);
     }
 
+    /**
+     * Registers shared inventory, so overlays
+     * of players are removed when they quit.
+     * Shared inventories are held weakly.
+     *
+     * @param gui Shared inventory.
+     */
+    public static void registerShared(@Nonnull SharedInventoryGui gui) {
+        sharedGuis.add(Validate.notNull(gui, "shared inventory cannot be null!"));
+    }
+
 
     /*
     SIGN
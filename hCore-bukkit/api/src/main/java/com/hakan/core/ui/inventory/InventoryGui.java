@@ -16,6 +16,7 @@
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,16 +28,25 @@
 /**
  * InventoryGui class to create
  * inventories easily.
+ * <p>
+ * Last item set to each slot of bukkit
+ * inventory is kept, and items equal to it
+ * are not set again. So refreshes only update
+ * changed slots, and server sends only them.
  */
 @SuppressWarnings({"unchecked"})
 public class InventoryGui implements Gui {
 
+    private static final ItemStack EMPTY = new ItemStack(Material.AIR);
+
+
     protected final String id;
     protected final String title;
     protected final Inventory inventory;
     protected final Pagination pagination;
     private final Set<Option> options;
     private final Map<Integer, ClickableItem> items;
+    private final ItemStack[] rendered;
     private Consumer<Player> openConsumer;
     private Consumer<Player> closeConsumer;
 
@@ -62,6 +72,8 @@ public InventoryGui(@Nonnull String id,
         this.inventory = (type == InventoryType.CHEST) ?
                 Bukkit.createInventory(null, size * 9, title) :
                 Bukkit.createInventory(null, type, title);
+        this.rendered = new ItemStack[this.inventory.getSize()];
+        Arrays.fill(this.rendered, EMPTY);
         this.fillAir(false);
     }
 
@@ -220,7 +232,7 @@ public final boolean hasItem(int slot) {
     @Nonnull
     public final <T extends InventoryGui> T setItem(int slot, @Nullable ClickableItem clickableItem) {
         this.items.put(slot, clickableItem);
-        this.inventory.setItem(slot, (clickableItem != null) ? clickableItem.getItem() : new ItemStack(Material.AIR));
+        this.render(slot, (clickableItem != null) ? clickableItem.getItem() : null);
         return (T) this;
     }
 
@@ -287,7 +299,7 @@ public final <T extends InventoryGui> T fillPage(int pageNum) {
     @Nonnull
     public final <T extends InventoryGui> T removeItem(int slot) {
         this.items.remove(slot);
-        this.inventory.setItem(slot, null);
+        this.render(slot, null);
         return (T) this;
     }
 
@@ -417,7 +429,23 @@ public final <T extends InventoryGui> T fillNull() {
     }
 
     /**
-     * Reopens the inventory for player.
+     * Forgets items set to slots of bukkit
+     * inventory, so all of them are set again
+     * on next render. It must be called after
+     * bukkit inventory is changed directly.
+     *
+     * @param <T> InventoryGui type.
+     * @return instance of this class.
+     */
+    @Nonnull
+    public final <T extends InventoryGui> T invalidate() {
+        Arrays.fill(this.rendered, null);
+        return (T) this;
+    }
+
+    /**
+     * Reopens the inventory for player. Only
+     * slots whose items are changed are updated.
      *
      * @param player Player.
      * @param <T>    InventoryGui type.
@@ -520,6 +548,22 @@ public void onClose(@Nonnull Player player) {
 
 
 
+    /**
+     * Sets item to slot of bukkit inventory
+     * if it is not equal to last item of slot.
+     *
+     * @param slot Slot.
+     * @param item Item, null to clear slot.
+     */
+    private void render(int slot, @Nullable ItemStack item) {
+        ItemStack stack = (item == null || item.getType() == Material.AIR) ? EMPTY : item;
+        if (stack.equals(this.rendered[slot]))
+            return;
+
+        this.inventory.setItem(slot, item);
+        this.rendered[slot] = (stack == EMPTY) ? EMPTY : stack.clone();
+    }
+
     /**
      * Option enums for UI.
      */
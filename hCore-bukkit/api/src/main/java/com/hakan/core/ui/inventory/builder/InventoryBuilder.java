@@ -1,6 +1,7 @@
 package com.hakan.core.ui.inventory.builder;
 
 import com.hakan.core.ui.inventory.InventoryGui;
+import com.hakan.core.ui.inventory.shared.SharedInventoryGui;
 import com.hakan.core.utils.Validate;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
@@ -161,4 +162,23 @@ public InventoryGui build() {
 
         return inventoryGui;
     }
+
+    /**
+     * Builds SharedInventoryGui. Shared
+     * inventories are read-only, so
+     * options are not used.
+     *
+     * @return SharedInventoryGui.
+     */
+    @Nonnull
+    public SharedInventoryGui buildShared() {
+        SharedInventoryGui inventoryGui = new SharedInventoryGui(this.id, this.title, this.size, this.type);
+
+        if (this.openConsumer != null)
+            inventoryGui.whenOpened(this.openConsumer);
+        if (this.closeConsumer != null)
+            inventoryGui.whenClosed(this.closeConsumer);
+
+        return inventoryGui;
+    }
 }
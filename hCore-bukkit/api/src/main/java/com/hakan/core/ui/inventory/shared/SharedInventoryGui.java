@@ -0,0 +1,378 @@
+package com.hakan.core.ui.inventory.shared;
+
+import com.hakan.core.ui.GuiHandler;
+import com.hakan.core.ui.inventory.InventoryGui;
+import com.hakan.core.ui.inventory.item.ClickableItem;
+import com.hakan.core.utils.Validate;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * SharedInventoryGui class to show one
+ * read-only inventory to many players. Items
+ * are set to one shared inventory, so they
+ * are built and updated once for all viewers.
+ * <p>
+ * Players with overlays see their own copy
+ * of the shared inventory with overlay items
+ * on it. Overlays of player are removed when
+ * player closes the inventory or quits.
+ */
+public final class SharedInventoryGui {
+
+    private final String id;
+    private final String title;
+    private final int size;
+    private final InventoryType type;
+    private final InventoryGui view;
+    private final Map<UUID, InventoryGui> views;
+    private final Map<UUID, Map<Integer, ClickableItem>> overlays;
+    private final Set<UUID> switching;
+    private Consumer<Player> openConsumer;
+    private Consumer<Player> closeConsumer;
+
+    /**
+     * Creates new instance of this class.
+     *
+     * @param id    ID of inventory.
+     * @param title Title.
+     * @param size  Size.
+     * @param type  Inventory type.
+     */
+    public SharedInventoryGui(@Nonnull String id,
+                              @Nonnull String title,
+                              int size,
+                              @Nonnull InventoryType type) {
+        this.id = Validate.notNull(id, "id cannot be null!");
+        this.title = Validate.notNull(title, "title cannot be null!");
+        this.size = size;
+        this.type = Validate.notNull(type, "inventory type cannot be null!");
+        this.views = new HashMap<>();
+        this.overlays = new HashMap<>();
+        this.switching = new HashSet<>();
+        this.view = this.createView();
+        GuiHandler.registerShared(this);
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return id.
+     */
+    @Nonnull
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets title of inventory.
+     *
+     * @return Title of inventory.
+     */
+    @Nonnull
+    public String getTitle() {
+        return this.title;
+    }
+
+    /**
+     * Gets shared inventory which is
+     * opened by players without overlays.
+     *
+     * @return Shared inventory.
+     */
+    @Nonnull
+    public InventoryGui getView() {
+        return this.view;
+    }
+
+    /**
+     * Gets players who are
+     * viewing the inventory.
+     *
+     * @return Viewers.
+     */
+    @Nonnull
+    public List<Player> getViewers() {
+        List<Player> viewers = new ArrayList<>();
+        this.view.toInventory().getViewers().forEach(viewer -> {
+            if (viewer instanceof Player)
+                viewers.add((Player) viewer);
+        });
+        this.views.values().forEach(view -> view.toInventory().getViewers().forEach(viewer -> {
+            if (viewer instanceof Player)
+                viewers.add((Player) viewer);
+        }));
+        return viewers;
+    }
+
+    /**
+     * Sets clickable item to slot of shared
+     * inventory and copies of players whose
+     * overlay does not cover the slot.
+     *
+     * @param slot          Slot.
+     * @param clickableItem Clickable item.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui setItem(int slot, @Nullable ClickableItem clickableItem) {
+        this.view.setItem(slot, clickableItem);
+        this.views.forEach((uid, view) -> {
+            if (!this.overlays.get(uid).containsKey(slot))
+                view.setItem(slot, clickableItem);
+        });
+        return this;
+    }
+
+    /**
+     * Sets clickable item to slot.
+     *
+     * @param slot      Slot.
+     * @param itemStack Itemstack.
+     * @param consumer  What will happen when player click on item.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui setItem(int slot, @Nonnull ItemStack itemStack, @Nullable Consumer<InventoryClickEvent> consumer) {
+        return this.setItem(slot, new ClickableItem(itemStack, consumer));
+    }
+
+    /**
+     * Sets item to slot.
+     *
+     * @param slot      Slot.
+     * @param itemStack Itemstack.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui setItem(int slot, @Nonnull ItemStack itemStack) {
+        return this.setItem(slot, itemStack, null);
+    }
+
+    /**
+     * Removes item from slot.
+     *
+     * @param slot Slot.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui removeItem(int slot) {
+        this.view.removeItem(slot);
+        this.views.forEach((uid, view) -> {
+            if (!this.overlays.get(uid).containsKey(slot))
+                view.removeItem(slot);
+        });
+        return this;
+    }
+
+    /**
+     * Checks if player has overlay.
+     *
+     * @param player Player.
+     * @return True if player has overlay.
+     */
+    public boolean hasOverlay(@Nonnull Player player) {
+        return this.overlays.containsKey(Validate.notNull(player, "player cannot be null!").getUniqueId());
+    }
+
+    /**
+     * Sets overlay item of player to slot. Player
+     * is moved to own copy of inventory if player
+     * is viewing the shared inventory.
+     *
+     * @param player        Player.
+     * @param slot          Slot.
+     * @param clickableItem Clickable item.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui setOverlay(@Nonnull Player player, int slot, @Nonnull ClickableItem clickableItem) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(clickableItem, "clickable item cannot be null!");
+
+        UUID uid = player.getUniqueId();
+        InventoryGui view = this.views.get(uid);
+        if (view == null) {
+            view = this.createView();
+            for (int i = 0; i < view.toInventory().getSize(); i++) {
+                ClickableItem item = this.view.findItem(i).orElse(null);
+                if (item != null) view.setItem(i, item);
+            }
+
+            this.views.put(uid, view);
+            this.overlays.put(uid, new HashMap<>());
+        }
+
+        this.overlays.get(uid).put(slot, clickableItem);
+        view.setItem(slot, clickableItem);
+
+        if (this.view.equals(GuiHandler.findInventoryByPlayer(player).orElse(null)))
+            this.switchView(player, view);
+        return this;
+    }
+
+    /**
+     * Removes overlay item of player from slot. Player
+     * is moved back to the shared inventory when
+     * player has no overlay item left.
+     *
+     * @param player Player.
+     * @param slot   Slot.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui removeOverlay(@Nonnull Player player, int slot) {
+        Validate.notNull(player, "player cannot be null!");
+
+        UUID uid = player.getUniqueId();
+        Map<Integer, ClickableItem> overlay = this.overlays.get(uid);
+        if (overlay == null || overlay.remove(slot) == null)
+            return this;
+
+        if (!overlay.isEmpty()) {
+            ClickableItem item = this.view.findItem(slot).orElse(null);
+            if (item != null) this.views.get(uid).setItem(slot, item);
+            else this.views.get(uid).removeItem(slot);
+            return this;
+        }
+
+        return this.clearOverlay(player);
+    }
+
+    /**
+     * Removes all overlay items of player
+     * and moves player back to the
+     * shared inventory.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui clearOverlay(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+
+        UUID uid = player.getUniqueId();
+        InventoryGui view = this.views.remove(uid);
+        this.overlays.remove(uid);
+
+        if (view != null && view.equals(GuiHandler.findInventoryByPlayer(player).orElse(null)))
+            this.switchView(player, this.view);
+        return this;
+    }
+
+    /**
+     * Opens inventory to player. Players with
+     * overlay open their own copy, others open
+     * the shared inventory.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui open(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        this.views.getOrDefault(player.getUniqueId(), this.view).open(player);
+        return this;
+    }
+
+    /**
+     * Closes inventory of player.
+     *
+     * @param player Player.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui close(@Nonnull Player player) {
+        Validate.notNull(player, "player cannot be null!");
+        this.views.getOrDefault(player.getUniqueId(), this.view).close(player);
+        return this;
+    }
+
+    /**
+     * Called when player opens the inventory.
+     *
+     * @param consumer Consumer.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui whenOpened(@Nonnull Consumer<Player> consumer) {
+        this.openConsumer = Validate.notNull(consumer, "consumer cannot be null!");
+        return this;
+    }
+
+    /**
+     * Called when player closes the inventory.
+     *
+     * @param consumer Consumer.
+     * @return Instance of this class.
+     */
+    @Nonnull
+    public SharedInventoryGui whenClosed(@Nonnull Consumer<Player> consumer) {
+        this.closeConsumer = Validate.notNull(consumer, "consumer cannot be null!");
+        return this;
+    }
+
+
+
+    /**
+     * Creates read-only inventory which
+     * is shown to viewers.
+     *
+     * @return Inventory.
+     */
+    @Nonnull
+    private InventoryGui createView() {
+        InventoryGui view = new InventoryGui(this.id, this.title, this.size, this.type, EnumSet.of(
+                InventoryGui.Option.CLOSABLE,
+                InventoryGui.Option.CANCEL_TOP_CLICK,
+                InventoryGui.Option.CANCEL_DOWN_CLICK));
+
+        view.whenOpened(player -> {
+            if (this.openConsumer != null && !this.switching.contains(player.getUniqueId()))
+                this.openConsumer.accept(player);
+        });
+        view.whenClosed(player -> {
+            if (this.switching.contains(player.getUniqueId()))
+                return;
+
+            if (view.equals(this.views.get(player.getUniqueId()))) {
+                this.views.remove(player.getUniqueId());
+                this.overlays.remove(player.getUniqueId());
+            }
+            if (this.closeConsumer != null)
+                this.closeConsumer.accept(player);
+        });
+
+        return view;
+    }
+
+    /**
+     * Moves player from current
+     * inventory to another one.
+     *
+     * @param player Player.
+     * @param view   Inventory to open.
+     */
+    private void switchView(@Nonnull Player player, @Nonnull InventoryGui view) {
+        this.switching.add(player.getUniqueId());
+        try {
+            view.open(player);
+        } finally {
+            this.switching.remove(player.getUniqueId());
+        }
+    }
+}
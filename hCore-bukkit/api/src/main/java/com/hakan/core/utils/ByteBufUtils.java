@@ -0,0 +1,51 @@
+package com.hakan.core.utils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ByteBufUtils class to write packet
+ * contents into buffers without nms.
+ */
+public final class ByteBufUtils {
+
+    /**
+     * Creates new buffer.
+     *
+     * @return Buffer.
+     */
+    @Nonnull
+    public static ByteBuf buffer() {
+        return Unpooled.buffer();
+    }
+
+    /**
+     * Writes utf-8 string with
+     * its var int length.
+     *
+     * @param buf   Buffer.
+     * @param value Value.
+     */
+    public static void writeString(@Nonnull ByteBuf buf, @Nonnull String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBufUtils.writeVarInt(buf, bytes.length);
+        buf.writeBytes(bytes);
+    }
+
+    /**
+     * Writes var int.
+     *
+     * @param buf   Buffer.
+     * @param value Value.
+     */
+    public static void writeVarInt(@Nonnull ByteBuf buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
+}
@@ -6,6 +6,9 @@
 
 import javax.annotation.Nonnull;
 import java.awt.Color;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,12 +18,24 @@
  */
 public final class ColorUtil {
 
-    private static final Pattern HEX_PATTERN = Pattern.compile("#[a-fA-F\\d]{6}");
     private static final Pattern COLOR_PATTERN = Pattern.compile("(?<color>(([§&][A-Fa-f\\d|rR])|(#[A-Fa-f\\d]{6})))");
     private static final Pattern FORMAT_PATTERN = Pattern.compile("(?<format>[§&][k-oK-OrR])");
+    private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 256;
+    private static final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(StringBuilder::new);
+    private static final Map<String, String> cache = Collections.synchronizedMap(new LinkedHashMap<String, String>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    });
 
     /**
      * Convert a message to a colored message.
+     * Color codes and hex colors (1.16 and later)
+     * are translated in one scan, and results of
+     * short messages are kept in an LRU cache.
      *
      * @param message The message to convert.
      * @return The colored message.
@@ -29,16 +44,17 @@ public final class ColorUtil {
     public static String colored(@Nonnull String message) {
         Validate.notNull(message, "message cannot be null!");
 
-        if (HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_16_R1)) {
-            Matcher matcher = HEX_PATTERN.matcher(message);
+        if (message.indexOf('&') == -1 && message.indexOf('#') == -1)
+            return message;
+        if (message.length() > MAX_CACHED_LENGTH)
+            return ColorUtil.translate(message);
 
-            while (matcher.find()) {
-                String color = message.substring(matcher.start(), matcher.end());
-                message = message.replace(color, net.md_5.bungee.api.ChatColor.of(color) + "");
-                matcher = HEX_PATTERN.matcher(message);
-            }
+        String colored = cache.get(message);
+        if (colored == null) {
+            colored = ColorUtil.translate(message);
+            cache.put(message, colored);
         }
-        return ChatColor.translateAlternateColorCodes('&', message);
+        return colored;
     }
 
     /**
@@ -130,4 +146,57 @@ public static String getLastColors(@Nonnull String text) {
 
         return lastColor + format;
     }
+
+
+
+    /**
+     * Translates color codes and hex
+     * colors of message in one scan.
+     *
+     * @param message The message to convert.
+     * @return The colored message.
+     */
+    @Nonnull
+    private static String translate(@Nonnull String message) {
+        boolean hex = HCore.getProtocolVersion().isNewerOrEqual(ProtocolVersion.v1_16_R1);
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c == '&' && i + 1 < length) {
+                char code = message.charAt(i + 1);
+                if (CODES.indexOf(code) != -1) {
+                    builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(code));
+                    i++;
+                    continue;
+                }
+            } else if (c == '#' && hex && i + 7 <= length && ColorUtil.isHex(message, i + 1)) {
+                builder.append(ChatColor.COLOR_CHAR).append('x');
+                for (int j = i + 1; j < i + 7; j++)
+                    builder.append(ChatColor.COLOR_CHAR).append(message.charAt(j));
+                i += 6;
+                continue;
+            }
+            builder.append(c);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Checks if 6 characters from
+     * index are hex digits.
+     *
+     * @param text  Text.
+     * @param index Start index.
+     * @return True if they are hex digits.
+     */
+    private static boolean isHex(@Nonnull String text, int index) {
+        for (int i = index; i < index + 6; i++)
+            if (Character.digit(text.charAt(i), 16) == -1)
+                return false;
+        return true;
+    }
 }
@@ -0,0 +1,186 @@
+package com.hakan.core.skin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link SkinHandler} against
+ * a local stub of mojang api.
+ */
+class SkinHandlerTest {
+
+    private static final String TEXTURE = "e30=";
+    private static final AtomicInteger NAMES = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final List<Long> hitTimes = new CopyOnWriteArrayList<>();
+    private volatile long delay = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.serverExecutor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(this.serverExecutor);
+        this.server.createContext("/profile/", this::handleProfile);
+        this.server.createContext("/session/", this::handleSession);
+        this.server.start();
+
+        String base = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        SkinHandler.setUrls(base + "/profile/", base + "/session/");
+        SkinHandler.setTTL(1, TimeUnit.HOURS);
+        SkinHandler.setTimeout(2, TimeUnit.SECONDS);
+        SkinHandler.setRateLimit(60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsForSameNameAreCoalesced() throws Exception {
+        String name = uniqueName();
+        this.delay = 200;
+
+        CompletableFuture<Skin> first = SkinHandler.fetch(name);
+        CompletableFuture<Skin> second = SkinHandler.fetch(name.toUpperCase());
+
+        assertSame(first, second);
+        assertEquals(TEXTURE, first.get(5, TimeUnit.SECONDS).getTexture());
+        assertEquals(1, this.hitsOf(name));
+    }
+
+    @Test
+    void cachedSkinIsReturnedWithoutRequest() throws Exception {
+        String name = uniqueName();
+
+        Skin fetched = SkinHandler.fetch(name).get(5, TimeUnit.SECONDS);
+        CompletableFuture<Skin> cached = SkinHandler.fetch(name);
+
+        assertTrue(cached.isDone());
+        assertSame(fetched, cached.get());
+        assertSame(fetched, SkinHandler.getCached(name).orElse(null));
+        assertEquals(1, this.hitsOf(name));
+    }
+
+    @Test
+    void expiredSkinIsFetchedAgain() throws Exception {
+        String name = uniqueName();
+        SkinHandler.setTTL(50, TimeUnit.MILLISECONDS);
+
+        SkinHandler.fetch(name).get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+
+        assertFalse(SkinHandler.getCached(name).isPresent());
+        SkinHandler.fetch(name).get(5, TimeUnit.SECONDS);
+        assertEquals(2, this.hitsOf(name));
+    }
+
+    @Test
+    void requestsAreSpreadByRateLimit() throws Exception {
+        SkinHandler.setRateLimit(600);
+        Thread.sleep(100);
+
+        CompletableFuture.allOf(
+                SkinHandler.fetch(uniqueName()),
+                SkinHandler.fetch(uniqueName()),
+                SkinHandler.fetch(uniqueName())
+        ).get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, this.hitTimes.size());
+        long spread = this.hitTimes.get(2) - this.hitTimes.get(0);
+        assertTrue(spread >= 180, "requests were sent within " + spread + "ms");
+    }
+
+    @Test
+    void slowRequestTimesOut() {
+        String name = uniqueName();
+        SkinHandler.setTimeout(200, TimeUnit.MILLISECONDS);
+        this.delay = 2000;
+
+        long start = System.currentTimeMillis();
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> SkinHandler.fetch(name).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(SocketTimeoutException.class, error.getCause());
+        assertTrue(System.currentTimeMillis() - start < 1500);
+        assertFalse(SkinHandler.getCached(name).isPresent());
+    }
+
+    @Test
+    void unknownPlayerCompletesExceptionally() {
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> SkinHandler.fetch("unknown").get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IOException.class, error.getCause());
+    }
+
+
+
+    private static String uniqueName() {
+        return "player" + NAMES.incrementAndGet();
+    }
+
+    private int hitsOf(String name) {
+        AtomicInteger count = this.hits.get(name);
+        return count != null ? count.get() : 0;
+    }
+
+    private void handleProfile(HttpExchange exchange) throws IOException {
+        String name = exchange.getRequestURI().getPath().substring("/profile/".length());
+        this.hits.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+        this.hitTimes.add(System.currentTimeMillis());
+
+        if (this.delay > 0) {
+            try {
+                Thread.sleep(this.delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (name.equals("unknown")) respond(exchange, 204, "");
+        else respond(exchange, 200, "{\"id\":\"" + name + "-id\",\"name\":\"" + name + "\"}");
+    }
+
+    private void handleSession(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, "{\"properties\":[{\"name\":\"textures\",\"value\":\"" + TEXTURE + "\",\"signature\":\"signature\"}]}");
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -2,6 +2,7 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.npc.Npc;
+import com.hakan.core.npc.NpcSpawnHandler;
 import com.hakan.core.skin.Skin;
 import com.hakan.core.utils.Validate;
 import com.mojang.authlib.GameProfile;
@@ -20,12 +21,7 @@
 import net.minecraft.server.v1_10_R1.PacketPlayOutEntityMetadata;
 import net.minecraft.server.v1_10_R1.PacketPlayOutEntityTeleport;
 import net.minecraft.server.v1_10_R1.PacketPlayOutNamedEntitySpawn;
-import net.minecraft.server.v1_10_R1.PacketPlayOutPlayerInfo;
-import net.minecraft.server.v1_10_R1.PacketPlayOutScoreboardTeam;
 import net.minecraft.server.v1_10_R1.PlayerInteractManager;
-import net.minecraft.server.v1_10_R1.Scoreboard;
-import net.minecraft.server.v1_10_R1.ScoreboardTeam;
-import net.minecraft.server.v1_10_R1.ScoreboardTeamBase;
 import net.minecraft.server.v1_10_R1.WorldServer;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -74,7 +70,6 @@ private static EntityPlayer createEntityPlayer(@Nonnull Npc npc) {
 
     private final Npc npc;
     private final EntityPlayer nmsPlayer;
-    private final ScoreboardTeam scoreboard;
 
     /**
      * {@inheritDoc}
@@ -82,9 +77,6 @@ private static EntityPlayer createEntityPlayer(@Nonnull Npc npc) {
     public NpcEntity_v1_10_R1(@Nonnull Npc npc) {
         this.npc = Validate.notNull(npc, "npc cannot be null!");
         this.nmsPlayer = createEntityPlayer(npc);
-        this.scoreboard = new ScoreboardTeam(new Scoreboard(), npc.getID());
-        this.scoreboard.setNameTagVisibility(ScoreboardTeamBase.EnumNameTagVisibility.NEVER);
-        this.scoreboard.getPlayerNameSet().add(this.nmsPlayer.getName());
     }
 
     /**
@@ -129,6 +121,31 @@ public void updateHeadRotation(@Nonnull List<Player> players) {
                 new PacketPlayOutEntity.PacketPlayOutEntityLook(this.getID(), (byte) yaw, (byte) pitch, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateMovement(@Nonnull List<Player> players, @Nonnull Location from) {
+        Validate.notNull(players, "players cannot be null!");
+        Validate.notNull(from, "from cannot be null!");
+
+        Location location = this.npc.getLocation();
+        long x = Math.round(location.getX() * 4096) - Math.round(from.getX() * 4096);
+        long y = Math.round(location.getY() * 4096) - Math.round(from.getY() * 4096);
+        long z = Math.round(location.getZ() * 4096) - Math.round(from.getZ() * 4096);
+        if (Math.abs(x) > Short.MAX_VALUE || Math.abs(y) > Short.MAX_VALUE || Math.abs(z) > Short.MAX_VALUE) {
+            this.updateLocation(players);
+            return;
+        }
+
+        this.nmsPlayer.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+
+        byte yaw = (byte) Math.round(location.getYaw() % 360f * (256f / 360f));
+        byte pitch = (byte) Math.round(location.getPitch() % 360f * (256f / 360f));
+        HCore.sendPacket(players, new PacketPlayOutEntity.PacketPlayOutRelEntityMoveLook(this.getID(), x, y, z, yaw, pitch, true),
+                new PacketPlayOutEntityHeadRotation(this.nmsPlayer, yaw));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -164,6 +181,14 @@ public void updateEquipments(@Nonnull List<Player> players) {
      */
     @Override
     public void show(@Nonnull List<Player> players) {
+        NpcSpawnHandler.enqueue(Validate.notNull(players, "players cannot be null!"), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void spawn(@Nonnull List<Player> players) {
         Validate.notNull(players, "players cannot be null!");
 
         GameProfile gameProfile = this.nmsPlayer.getProfile();
@@ -172,17 +197,9 @@ public void show(@Nonnull List<Player> players) {
         gameProfile.getProperties().put("textures", new Property("textures", this.npc.getSkin().getTexture(), this.npc.getSkin().getSignature()));
         dataWatcher.set(new DataWatcherObject<>(13, DataWatcherRegistry.a), (byte) 127);
 
-        players.forEach(player -> this.scoreboard.getPlayerNameSet().add(player.getName()));
         HCore.sendPacket(players,
-                new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.ADD_PLAYER, this.nmsPlayer),
                 new PacketPlayOutNamedEntitySpawn(this.nmsPlayer),
-                new PacketPlayOutEntityMetadata(this.getID(), dataWatcher, true),
-                new PacketPlayOutScoreboardTeam(this.scoreboard, 0));
-        HCore.asyncScheduler().after(5)
-                .run(() -> HCore.sendPacket(players, new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.REMOVE_PLAYER, this.nmsPlayer)));
-
-        HCore.asyncScheduler().after(2)
-                .run(() -> this.updateLocation(players));
+                new PacketPlayOutEntityMetadata(this.getID(), dataWatcher, true));
         this.updateEquipments(players);
     }
 
@@ -193,8 +210,27 @@ public void show(@Nonnull List<Player> players) {
     public void hide(@Nonnull List<Player> players) {
         Validate.notNull(players, "players cannot be null!");
 
-        players.forEach(player -> this.scoreboard.getPlayerNameSet().remove(player.getName()));
-        HCore.sendPacket(players, new PacketPlayOutEntityDestroy(this.getID()),
-                new PacketPlayOutScoreboardTeam(this.scoreboard, 0));
+        NpcSpawnHandler.cancel(players, this);
+        HCore.sendPacket(players, new PacketPlayOutEntityDestroy(this.getID()));
+    }
+
+    /**
+     * Gets nms player.
+     *
+     * @return Nms player.
+     */
+    @Nonnull
+    EntityPlayer getHandle() {
+        return this.nmsPlayer;
+    }
+
+    /**
+     * Gets profile name of npc.
+     *
+     * @return Profile name.
+     */
+    @Nonnull
+    String getName() {
+        return this.npc.getID();
     }
 }
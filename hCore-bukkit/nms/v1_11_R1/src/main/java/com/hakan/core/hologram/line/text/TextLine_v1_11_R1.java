@@ -2,6 +2,7 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.Hologram;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
 import net.minecraft.server.v1_11_R1.EntityArmorStand;
 import net.minecraft.server.v1_11_R1.PacketPlayOutEntityDestroy;
@@ -21,7 +22,7 @@
  */
 public final class TextLine_v1_11_R1 implements TextLine {
 
-    private String text;
+    private Text text;
     private final Hologram hologram;
     private final EntityArmorStand click;
     private final EntityArmorStand armorStand;
@@ -59,16 +60,16 @@ private TextLine_v1_11_R1(@Nonnull Hologram hologram, @Nonnull Location location
     @Nonnull
     @Override
     public String getText() {
-        return this.text;
+        return this.text.getText();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setText(@Nonnull String text) {
+    public void setText(@Nonnull Text text) {
         this.text = Validate.notNull(text, "text cannot be null!");
-        this.armorStand.setCustomName(this.text);
+        this.armorStand.setCustomName(this.text.getText());
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true));
     }
@@ -2,7 +2,6 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.utils.Validate;
-import net.minecraft.server.v1_11_R1.ChatMessage;
 import net.minecraft.server.v1_11_R1.IChatBaseComponent;
 import net.minecraft.server.v1_11_R1.PacketPlayOutTitle;
 import org.bukkit.entity.Player;
@@ -22,8 +21,8 @@ public void send(@Nonnull Player player, @Nonnull Title title) {
         Validate.notNull(player, "player cannot be null!");
         Validate.notNull(player, "title class cannot be null!");
 
-        IChatBaseComponent titleString = new ChatMessage(title.getTitle());
-        IChatBaseComponent subtitleString = new ChatMessage(title.getSubtitle());
+        IChatBaseComponent titleString = title.getTitleText().getComponent();
+        IChatBaseComponent subtitleString = title.getSubtitleText().getComponent();
 
         HCore.sendPacket(player, new PacketPlayOutTitle(PacketPlayOutTitle.EnumTitleAction.TIMES, null, title.getFadeIn(), title.getStay(), title.getFadeOut()));
         HCore.sendPacket(player, new PacketPlayOutTitle(PacketPlayOutTitle.EnumTitleAction.TITLE, titleString, title.getFadeIn(), title.getStay(), title.getFadeOut()));
@@ -0,0 +1,113 @@
+package com.hakan.core.npc.crowd.entity;
+
+import com.hakan.core.HCore;
+import com.hakan.core.npc.crowd.NpcCrowd;
+import com.hakan.core.npc.crowd.utils.CrowdUtils;
+import com.hakan.core.packet.utils.PacketReader_v1_11_R1;
+import com.hakan.core.utils.ByteBufUtils;
+import com.hakan.core.utils.Validate;
+import net.minecraft.server.v1_11_R1.PacketPlayOutEntity;
+import net.minecraft.server.v1_11_R1.PacketPlayOutEntityDestroy;
+import net.minecraft.server.v1_11_R1.PacketPlayOutEntityHeadRotation;
+import net.minecraft.server.v1_11_R1.PacketPlayOutNamedEntitySpawn;
+import net.minecraft.server.v1_11_R1.PacketPlayOutPlayerInfo;
+import net.minecraft.server.v1_11_R1.PacketPlayOutScoreboardTeam;
+import net.minecraft.server.v1_11_R1.Scoreboard;
+import net.minecraft.server.v1_11_R1.ScoreboardTeam;
+import net.minecraft.server.v1_11_R1.ScoreboardTeamBase;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@inheritDoc}
+ */
+public final class CrowdEntity_v1_11_R1 implements CrowdEntity {
+
+    private final NpcCrowd crowd;
+    private final ScoreboardTeam scoreboard;
+
+    /**
+     * {@inheritDoc}
+     */
+    public CrowdEntity_v1_11_R1(@Nonnull NpcCrowd crowd) {
+        this.crowd = Validate.notNull(crowd, "crowd cannot be null!");
+        this.scoreboard = new ScoreboardTeam(new Scoreboard(), "hc" + Integer.toHexString(crowd.getID().hashCode()));
+        this.scoreboard.setNameTagVisibility(ScoreboardTeamBase.EnumNameTagVisibility.NEVER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void show(@Nonnull List<Player> players, int from, int to) {
+        Validate.notNull(players, "players cannot be null!");
+        if (from >= to || players.isEmpty())
+            return;
+
+        List<Object> packets = new ArrayList<>();
+        List<UUID> uids = new ArrayList<>();
+        packets.add(PacketReader_v1_11_R1.read(new PacketPlayOutPlayerInfo(), CrowdUtils.writeInfoAdd(ByteBufUtils.buffer(), this.crowd, from, to, false)));
+        if (from == 0) {
+            this.scoreboard.getPlayerNameSet().clear();
+            for (int i = from; i < to; i++)
+                this.scoreboard.getPlayerNameSet().add(CrowdUtils.getName(this.crowd.getEntityID(i)));
+            packets.add(new PacketPlayOutScoreboardTeam(this.scoreboard, 0));
+        } else {
+            for (int i = from; i < to; i++) {
+                String name = CrowdUtils.getName(this.crowd.getEntityID(i));
+                this.scoreboard.getPlayerNameSet().add(name);
+                packets.add(new PacketPlayOutScoreboardTeam(this.scoreboard, Collections.singletonList(name), 3));
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            uids.add(this.crowd.getUID(i));
+            packets.add(PacketReader_v1_11_R1.read(new PacketPlayOutNamedEntitySpawn(), CrowdUtils.writeSpawn(ByteBufUtils.buffer(), this.crowd, i, false, 13)));
+            packets.add(PacketReader_v1_11_R1.read(new PacketPlayOutEntityHeadRotation(), CrowdUtils.writeHeadRotation(ByteBufUtils.buffer(), this.crowd, i)));
+        }
+
+        HCore.sendPacket(players, packets.toArray());
+        HCore.asyncScheduler().after(5)
+                .run(() -> HCore.sendPacket(players, PacketReader_v1_11_R1.read(new PacketPlayOutPlayerInfo(), CrowdUtils.writeInfoRemove(ByteBufUtils.buffer(), uids))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hide(@Nonnull List<Player> players, int from, int to) {
+        Validate.notNull(players, "players cannot be null!");
+        if (from >= to)
+            return;
+
+        int[] ids = new int[to - from];
+        for (int i = from; i < to; i++) {
+            ids[i - from] = this.crowd.getEntityID(i);
+            this.scoreboard.getPlayerNameSet().remove(CrowdUtils.getName(ids[i - from]));
+        }
+
+        if (from == 0 && to == this.crowd.getSize()) {
+            HCore.sendPacket(players, new PacketPlayOutEntityDestroy(ids), new PacketPlayOutScoreboardTeam(this.scoreboard, 1));
+        } else {
+            HCore.sendPacket(players, new PacketPlayOutEntityDestroy(ids));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateRotation(@Nonnull List<Player> players, int index) {
+        Validate.notNull(players, "players cannot be null!");
+
+        byte yaw = CrowdUtils.toAngle(this.crowd.getYaw(index));
+        byte pitch = CrowdUtils.toAngle(this.crowd.getPitch(index));
+        HCore.sendPacket(players, PacketReader_v1_11_R1.read(new PacketPlayOutEntityHeadRotation(), CrowdUtils.writeHeadRotation(ByteBufUtils.buffer(), this.crowd, index)),
+                new PacketPlayOutEntity.PacketPlayOutEntityLook(this.crowd.getEntityID(index), yaw, pitch, true));
+    }
+}
@@ -1,11 +1,11 @@
 package com.hakan.core.scoreboard.versions;
 
 import com.hakan.core.HCore;
+import com.hakan.core.message.text.Text;
+import com.hakan.core.packet.utils.PacketReader_v1_11_R1;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
-import com.hakan.core.utils.ColorUtil;
-import com.hakan.core.utils.ReflectionUtils;
-import net.minecraft.server.v1_11_R1.IScoreboardCriteria;
+import com.hakan.core.scoreboard.utils.ScoreboardUtils;
 import net.minecraft.server.v1_11_R1.PacketPlayOutScoreboardDisplayObjective;
 import net.minecraft.server.v1_11_R1.PacketPlayOutScoreboardObjective;
 import net.minecraft.server.v1_11_R1.PacketPlayOutScoreboardScore;
@@ -13,7 +13,7 @@
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Collections;
 
 /**
@@ -21,8 +21,6 @@
  */
 public final class Scoreboard_v1_11_R1 extends Scoreboard {
 
-    private int mode = 0;
-
     /**
      * {@inheritDoc}
      */
@@ -33,54 +31,63 @@ private Scoreboard_v1_11_R1(@Nonnull Player player, @Nonnull String title) {
     /**
      * {@inheritDoc}
      */
-    @Nonnull
     @Override
-    public Scoreboard show() {
-        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "b", super.title);
-        ReflectionUtils.setField(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
-        ReflectionUtils.setField(objective, "d", this.mode);
+    protected void sendObjective(boolean create, @Nonnull Text title) {
+        PacketPlayOutScoreboardObjective objective = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardObjective(),
+                ScoreboardUtils.writeObjective("board", title.getText(), create, true));
+
+        if (!create) {
+            HCore.sendPacket(super.player, objective);
+            return;
+        }
 
-        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
-        ReflectionUtils.setField(displayObjective, "a", 1);
-        ReflectionUtils.setField(displayObjective, "b", "board");
+        PacketPlayOutScoreboardDisplayObjective displayObjective = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardDisplayObjective(),
+                ScoreboardUtils.writeDisplayObjective(1, "board"));
 
         HCore.sendPacket(super.player, objective, displayObjective);
+    }
 
-        int length = super.lines.length;
-        for (int i = 0; i < length; i++) {
-            String line = super.getLine(i);
-            if (line == null) continue;
-
-            String[] split = super.splitLine(i, line);
-            String prefix = ColorUtil.colored(split[0]);
-            String middle = ColorUtil.colored(split[1]);
-            String suffix = ColorUtil.colored(split[2]);
-
-            PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
-            ReflectionUtils.setField(team, "a", "team_" + i);
-            ReflectionUtils.setField(team, "b", "team_" + i);
-            ReflectionUtils.setField(team, "c", prefix);
-            ReflectionUtils.setField(team, "d", suffix);
-            ReflectionUtils.setField(team, "e", "always");
-            ReflectionUtils.setField(team, "f", "always");
-            ReflectionUtils.setField(team, "g", -1);
-            ReflectionUtils.setField(team, "h", (this.mode == 0) ? Collections.singletonList(middle) : new ArrayList<>());
-            ReflectionUtils.setField(team, "i", this.mode);
-            ReflectionUtils.setField(team, "j", 1);
-
-            PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
-            ReflectionUtils.setField(score, "a", middle);
-            ReflectionUtils.setField(score, "b", "board");
-            ReflectionUtils.setField(score, "c", 15 - i);
-            ReflectionUtils.setField(score, "d", PacketPlayOutScoreboardScore.EnumScoreboardAction.CHANGE);
-
-            HCore.sendPacket(super.player, team, score);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendLine(int line, @Nullable Text previous, @Nonnull Text text) {
+        String[] split = super.splitLine(line, text.getText());
+        String prefix = split[0];
+        String middle = split[1];
+        String suffix = split[2];
+
+        if (previous != null && !middle.equals(super.splitLine(line, previous.getText())[1])) {
+            this.sendLineRemove(line, previous);
+            previous = null;
         }
 
-        this.mode = 2;
-        return this;
+        boolean create = previous == null;
+        PacketPlayOutScoreboardTeam team = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardTeam(),
+                ScoreboardUtils.writeLegacyTeam("team_" + line, create, prefix, suffix, Collections.singletonList(middle), true));
+
+        if (!create) {
+            HCore.sendPacket(super.player, team);
+            return;
+        }
+
+        PacketPlayOutScoreboardScore score = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardScore(),
+                ScoreboardUtils.writeScore(middle, "board", 15 - line));
+
+        HCore.sendPacket(super.player, team, score);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendLineRemove(int line, @Nonnull Text previous) {
+        PacketPlayOutScoreboardTeam team = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardTeam(),
+                ScoreboardUtils.writeTeamRemove("team_" + line));
+        PacketPlayOutScoreboardScore score = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardScore(),
+                ScoreboardUtils.writeScoreRemove(super.splitLine(line, previous.getText())[1], "board"));
+
+        HCore.sendPacket(super.player, team, score);
     }
 
     /**
@@ -89,9 +96,10 @@ public Scoreboard show() {
     @Nonnull
     @Override
     public Scoreboard delete() {
-        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "d", 1);
+        super.clearSent();
+
+        PacketPlayOutScoreboardObjective objective = PacketReader_v1_11_R1.read(new PacketPlayOutScoreboardObjective(),
+                ScoreboardUtils.writeObjectiveRemove("board"));
 
         HCore.sendPacket(super.player, objective);
         ScoreboardHandler.getContent().remove(super.player.getUniqueId());
@@ -1,8 +1,8 @@
 package com.hakan.core.message.actionbar;
 
 import com.hakan.core.HCore;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
-import net.minecraft.server.v1_12_R1.ChatMessage;
 import net.minecraft.server.v1_12_R1.ChatMessageType;
 import net.minecraft.server.v1_12_R1.IChatBaseComponent;
 import net.minecraft.server.v1_12_R1.PacketPlayOutChat;
@@ -19,11 +19,11 @@ public final class ActionBarWrapper_v1_12_R1 implements ActionBarWrapper {
      * {@inheritDoc}
      */
     @Override
-    public void send(@Nonnull Player player, @Nonnull String text) {
+    public void send(@Nonnull Player player, @Nonnull Text text) {
         Validate.notNull(player, "player cannot be null!");
         Validate.notNull(text, "text cannot be null!");
 
-        IChatBaseComponent baseComponent = new ChatMessage(text);
+        IChatBaseComponent baseComponent = text.getComponent();
         HCore.sendPacket(player, new PacketPlayOutChat(baseComponent, ChatMessageType.GAME_INFO));
     }
 }
@@ -0,0 +1,78 @@
+package com.hakan.core.npc.entity;
+
+import com.hakan.core.HCore;
+import com.hakan.core.utils.Validate;
+import net.minecraft.server.v1_12_R1.EntityPlayer;
+import net.minecraft.server.v1_12_R1.PacketPlayOutPlayerInfo;
+import net.minecraft.server.v1_12_R1.PacketPlayOutScoreboardTeam;
+import net.minecraft.server.v1_12_R1.Scoreboard;
+import net.minecraft.server.v1_12_R1.ScoreboardTeam;
+import net.minecraft.server.v1_12_R1.ScoreboardTeamBase;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@inheritDoc}
+ */
+public final class NpcSpawner_v1_12_R1 implements NpcSpawner {
+
+    private static final String TEAM = "hcore_npc";
+
+    /**
+     * Gets nms players of entities.
+     *
+     * @param entities Npc entities.
+     * @return Nms players.
+     */
+    @Nonnull
+    private static List<EntityPlayer> handles(@Nonnull List<NpcEntity> entities) {
+        List<EntityPlayer> handles = new ArrayList<>(entities.size());
+        entities.forEach(entity -> handles.add(((NpcEntity_v1_12_R1) entity).getHandle()));
+        return handles;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addInfo(@Nonnull Player player, @Nonnull List<NpcEntity> entities) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(entities, "entities cannot be null!");
+        HCore.sendPacket(player, new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.ADD_PLAYER, handles(entities)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeInfo(@Nonnull Player player, @Nonnull List<NpcEntity> entities) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(entities, "entities cannot be null!");
+        HCore.sendPacket(player, new PacketPlayOutPlayerInfo(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.REMOVE_PLAYER, handles(entities)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addTeam(@Nonnull Player player, @Nonnull List<NpcEntity> entities, boolean create) {
+        Validate.notNull(player, "player cannot be null!");
+        Validate.notNull(entities, "entities cannot be null!");
+
+        List<String> names = new ArrayList<>(entities.size());
+        entities.forEach(entity -> names.add(((NpcEntity_v1_12_R1) entity).getName()));
+
+        if (create) {
+            ScoreboardTeam team = new ScoreboardTeam(new Scoreboard(), TEAM);
+            team.setNameTagVisibility(ScoreboardTeamBase.EnumNameTagVisibility.NEVER);
+            team.getPlayerNameSet().addAll(names);
+            HCore.sendPacket(player, new PacketPlayOutScoreboardTeam(team, 0));
+        } else {
+            HCore.sendPacket(player, new PacketPlayOutScoreboardTeam(new ScoreboardTeam(new Scoreboard(), TEAM), names, 3));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.hakan.core.tablist.versions;
+
+import com.hakan.core.HCore;
+import com.hakan.core.message.text.TextWrapper_v1_12_R1;
+import com.hakan.core.packet.utils.PacketReader_v1_12_R1;
+import com.hakan.core.tablist.TabList;
+import com.hakan.core.tablist.utils.TabListUtils;
+import net.minecraft.server.v1_12_R1.PacketPlayOutPlayerInfo;
+import net.minecraft.server.v1_12_R1.PacketPlayOutPlayerListHeaderFooter;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * {@inheritDoc}
+ */
+public final class TabList_v1_12_R1 extends TabList {
+
+    private static final TextWrapper_v1_12_R1 wrapper = new TextWrapper_v1_12_R1();
+
+    /**
+     * {@inheritDoc}
+     */
+    private TabList_v1_12_R1(@Nonnull Player player) {
+        super(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendHeaderFooter(@Nonnull String header, @Nonnull String footer) {
+        HCore.sendPacket(super.player, PacketReader_v1_12_R1.read(new PacketPlayOutPlayerListHeaderFooter(),
+                TabListUtils.writeHeaderFooter(wrapper.toJson(header, true), wrapper.toJson(footer, true))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendAdd(@Nonnull List<Integer> slots) {
+        HCore.sendPacket(super.player, PacketReader_v1_12_R1.read(new PacketPlayOutPlayerInfo(),
+                TabListUtils.writeInfoAdd(slots, super.slots, text -> wrapper.toJson(text, true), false)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendDisplayName(@Nonnull List<Integer> slots) {
+        HCore.sendPacket(super.player, PacketReader_v1_12_R1.read(new PacketPlayOutPlayerInfo(),
+                TabListUtils.writeInfoDisplayName(slots, super.slots, text -> wrapper.toJson(text, true), true)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendLatency(@Nonnull List<Integer> slots) {
+        HCore.sendPacket(super.player, PacketReader_v1_12_R1.read(new PacketPlayOutPlayerInfo(),
+                TabListUtils.writeInfoLatency(slots, super.slots, true)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendRemove(@Nonnull List<Integer> slots) {
+        HCore.sendPacket(super.player, PacketReader_v1_12_R1.read(new PacketPlayOutPlayerInfo(),
+                TabListUtils.writeInfoRemove(slots)));
+    }
+}
@@ -1,11 +1,11 @@
 package com.hakan.core.message.actionbar;
 
 import com.hakan.core.HCore;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
 import net.minecraft.server.v1_13_R1.ChatMessageType;
 import net.minecraft.server.v1_13_R1.IChatBaseComponent;
 import net.minecraft.server.v1_13_R1.PacketPlayOutChat;
-import org.bukkit.craftbukkit.v1_13_R1.util.CraftChatMessage;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -19,11 +19,11 @@ public final class ActionBarWrapper_v1_13_R1 implements ActionBarWrapper {
      * {@inheritDoc}
      */
     @Override
-    public void send(@Nonnull Player player, @Nonnull String text) {
+    public void send(@Nonnull Player player, @Nonnull Text text) {
         Validate.notNull(player, "player cannot be null!");
         Validate.notNull(text, "text cannot be null!");
 
-        IChatBaseComponent baseComponent = CraftChatMessage.fromStringOrNull(text);
+        IChatBaseComponent baseComponent = text.getComponent();
         HCore.sendPacket(player, new PacketPlayOutChat(baseComponent, ChatMessageType.GAME_INFO));
     }
 }
@@ -0,0 +1,33 @@
+package com.hakan.core.packet.utils;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.server.v1_13_R1.Packet;
+import net.minecraft.server.v1_13_R1.PacketDataSerializer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+
+/**
+ * PacketReader class to create
+ * packets from buffers which are
+ * written without nms.
+ */
+public final class PacketReader_v1_13_R1 {
+
+    /**
+     * Reads packet from buffer.
+     *
+     * @param packet Packet.
+     * @param buf    Buffer.
+     * @return Packet.
+     */
+    @Nonnull
+    public static <T extends Packet<?>> T read(@Nonnull T packet, @Nonnull ByteBuf buf) {
+        try {
+            packet.a(new PacketDataSerializer(buf));
+            return packet;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
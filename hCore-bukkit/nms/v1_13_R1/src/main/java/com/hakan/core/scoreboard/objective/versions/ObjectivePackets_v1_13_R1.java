@@ -0,0 +1,64 @@
+package com.hakan.core.scoreboard.objective.versions;
+
+import com.hakan.core.message.text.TextWrapper_v1_13_R1;
+import com.hakan.core.packet.utils.PacketReader_v1_13_R1;
+import com.hakan.core.scoreboard.objective.ObjectivePackets;
+import com.hakan.core.scoreboard.utils.ScoreboardUtils;
+import net.minecraft.server.v1_13_R1.PacketPlayOutScoreboardDisplayObjective;
+import net.minecraft.server.v1_13_R1.PacketPlayOutScoreboardObjective;
+import net.minecraft.server.v1_13_R1.PacketPlayOutScoreboardScore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ */
+public final class ObjectivePackets_v1_13_R1 implements ObjectivePackets {
+
+    private static final TextWrapper_v1_13_R1 wrapper = new TextWrapper_v1_13_R1();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object createObjective(@Nonnull String name, @Nonnull String title, boolean create) {
+        return PacketReader_v1_13_R1.read(new PacketPlayOutScoreboardObjective(), ScoreboardUtils.writeObjective(name, wrapper.toJson(title), create, false));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object removeObjective(@Nonnull String name) {
+        return PacketReader_v1_13_R1.read(new PacketPlayOutScoreboardObjective(), ScoreboardUtils.writeObjectiveRemove(name));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object displayObjective(int position, @Nonnull String name) {
+        return PacketReader_v1_13_R1.read(new PacketPlayOutScoreboardDisplayObjective(), ScoreboardUtils.writeDisplayObjective(position, name));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object updateScore(@Nonnull String entry, @Nonnull String objective, int score) {
+        return PacketReader_v1_13_R1.read(new PacketPlayOutScoreboardScore(), ScoreboardUtils.writeScore(entry, objective, score));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object removeScore(@Nonnull String entry, @Nonnull String objective) {
+        return PacketReader_v1_13_R1.read(new PacketPlayOutScoreboardScore(), ScoreboardUtils.writeScoreRemove(entry, objective));
+    }
+}
@@ -2,8 +2,10 @@
 
 import com.hakan.core.HCore;
 import com.hakan.core.hologram.Hologram;
+import com.hakan.core.message.text.Text;
 import com.hakan.core.utils.Validate;
 import net.minecraft.server.v1_13_R2.EntityArmorStand;
+import net.minecraft.server.v1_13_R2.IChatBaseComponent;
 import net.minecraft.server.v1_13_R2.PacketPlayOutEntityDestroy;
 import net.minecraft.server.v1_13_R2.PacketPlayOutEntityMetadata;
 import net.minecraft.server.v1_13_R2.PacketPlayOutEntityTeleport;
@@ -11,7 +13,6 @@
 import net.minecraft.server.v1_13_R2.World;
 import org.bukkit.Location;
 import org.bukkit.craftbukkit.v1_13_R2.CraftWorld;
-import org.bukkit.craftbukkit.v1_13_R2.util.CraftChatMessage;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -22,7 +23,7 @@
  */
 public final class TextLine_v1_13_R2 implements TextLine {
 
-    private String text;
+    private Text text;
     private final Hologram hologram;
     private final EntityArmorStand click;
     private final EntityArmorStand armorStand;
@@ -60,16 +61,16 @@ private TextLine_v1_13_R2(@Nonnull Hologram hologram, @Nonnull Location location
     @Nonnull
     @Override
     public String getText() {
-        return this.text;
+        return this.text.getText();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setText(@Nonnull String text) {
+    public void setText(@Nonnull Text text) {
         this.text = Validate.notNull(text, "text cannot be null!");
-        this.armorStand.setCustomName(CraftChatMessage.fromStringOrNull(this.text));
+        this.armorStand.setCustomName((IChatBaseComponent) this.text.getComponent());
         HCore.sendPacket(this.hologram.getRenderer().getShownPlayers(),
                 new PacketPlayOutEntityMetadata(this.armorStand.getId(), this.armorStand.getDataWatcher(), true));
     }
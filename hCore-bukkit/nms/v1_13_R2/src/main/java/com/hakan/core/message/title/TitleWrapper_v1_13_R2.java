@@ -4,7 +4,6 @@
 import com.hakan.core.utils.Validate;
 import net.minecraft.server.v1_13_R2.IChatBaseComponent;
 import net.minecraft.server.v1_13_R2.PacketPlayOutTitle;
-import org.bukkit.craftbukkit.v1_13_R2.util.CraftChatMessage;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -22,8 +21,8 @@ public void send(@Nonnull Player player, @Nonnull Title title) {
         Validate.notNull(player, "player cannot be null!");
         Validate.notNull(player, "title class cannot be null!");
 
-        IChatBaseComponent titleString = CraftChatMessage.fromStringOrNull(title.getTitle());
-        IChatBaseComponent subtitleString = CraftChatMessage.fromStringOrNull(title.getSubtitle());
+        IChatBaseComponent titleString = title.getTitleText().getComponent();
+        IChatBaseComponent subtitleString = title.getSubtitleText().getComponent();
 
         HCore.sendPacket(player, new PacketPlayOutTitle(PacketPlayOutTitle.EnumTitleAction.TIMES, null, title.getFadeIn(), title.getStay(), title.getFadeOut()));
         HCore.sendPacket(player, new PacketPlayOutTitle(PacketPlayOutTitle.EnumTitleAction.TITLE, titleString, title.getFadeIn(), title.getStay(), title.getFadeOut()));
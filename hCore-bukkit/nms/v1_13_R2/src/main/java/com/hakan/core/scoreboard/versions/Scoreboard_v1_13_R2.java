@@ -1,22 +1,20 @@
 package com.hakan.core.scoreboard.versions;
 
 import com.hakan.core.HCore;
+import com.hakan.core.message.text.Text;
+import com.hakan.core.message.text.TextWrapper_v1_13_R2;
+import com.hakan.core.packet.utils.PacketReader_v1_13_R2;
 import com.hakan.core.scoreboard.Scoreboard;
 import com.hakan.core.scoreboard.ScoreboardHandler;
-import com.hakan.core.utils.ColorUtil;
-import com.hakan.core.utils.ReflectionUtils;
-import net.minecraft.server.v1_13_R2.EnumChatFormat;
-import net.minecraft.server.v1_13_R2.IScoreboardCriteria;
+import com.hakan.core.scoreboard.utils.ScoreboardUtils;
 import net.minecraft.server.v1_13_R2.PacketPlayOutScoreboardDisplayObjective;
 import net.minecraft.server.v1_13_R2.PacketPlayOutScoreboardObjective;
 import net.minecraft.server.v1_13_R2.PacketPlayOutScoreboardScore;
 import net.minecraft.server.v1_13_R2.PacketPlayOutScoreboardTeam;
-import net.minecraft.server.v1_13_R2.ScoreboardServer;
-import org.bukkit.craftbukkit.v1_13_R2.util.CraftChatMessage;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Collections;
 
 /**
@@ -24,7 +22,7 @@
  */
 public final class Scoreboard_v1_13_R2 extends Scoreboard {
 
-    private int mode = 0;
+    private static final TextWrapper_v1_13_R2 wrapper = new TextWrapper_v1_13_R2();
 
     /**
      * {@inheritDoc}
@@ -36,51 +34,56 @@ private Scoreboard_v1_13_R2(@Nonnull Player player, @Nonnull String title) {
     /**
      * {@inheritDoc}
      */
-    @Nonnull
     @Override
-    public Scoreboard show() {
-        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "b", CraftChatMessage.fromStringOrNull(super.title));
-        ReflectionUtils.setField(objective, "c", IScoreboardCriteria.EnumScoreboardHealthDisplay.INTEGER);
-        ReflectionUtils.setField(objective, "d", this.mode);
+    protected void sendObjective(boolean create, @Nonnull Text title) {
+        PacketPlayOutScoreboardObjective objective = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardObjective(),
+                ScoreboardUtils.writeObjective("board", title.getJson(), create, false));
+
+        if (!create) {
+            HCore.sendPacket(super.player, objective);
+            return;
+        }
 
-        PacketPlayOutScoreboardDisplayObjective displayObjective = new PacketPlayOutScoreboardDisplayObjective();
-        ReflectionUtils.setField(displayObjective, "a", 1);
-        ReflectionUtils.setField(displayObjective, "b", "board");
+        PacketPlayOutScoreboardDisplayObjective displayObjective = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardDisplayObjective(),
+                ScoreboardUtils.writeDisplayObjective(1, "board"));
 
         HCore.sendPacket(super.player, objective, displayObjective);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendLine(int line, @Nullable Text previous, @Nonnull Text text) {
+        String entry = super.getEntry(line);
+        boolean create = previous == null;
+
+        PacketPlayOutScoreboardTeam team = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardTeam(),
+                ScoreboardUtils.writeTeam("team_" + line, create, wrapper.toJson("team_" + line),
+                        text.getJson(), wrapper.toJson(" "), Collections.singletonList(entry)));
 
-        int length = super.lines.length;
-        for (int i = 0; i < length; i++) {
-            String line = super.getLine(i);
-            if (line == null) continue;
-
-            String color = (i >= 10) ? "§" + new String[]{"a", "b", "c", "d", "e", "f"}[i - 10] : "§" + i;
-
-            PacketPlayOutScoreboardTeam team = new PacketPlayOutScoreboardTeam();
-            ReflectionUtils.setField(team, "a", "team_" + i);
-            ReflectionUtils.setField(team, "b", CraftChatMessage.fromStringOrNull("team_" + i));
-            ReflectionUtils.setField(team, "c", CraftChatMessage.fromStringOrNull(ColorUtil.colored(line)));
-            ReflectionUtils.setField(team, "d", CraftChatMessage.fromStringOrNull(" "));
-            ReflectionUtils.setField(team, "e", "always");
-            ReflectionUtils.setField(team, "f", "always");
-            ReflectionUtils.setField(team, "g", EnumChatFormat.RESET);
-            ReflectionUtils.setField(team, "h", (this.mode == 0) ? Collections.singletonList(color) : new ArrayList<>());
-            ReflectionUtils.setField(team, "i", this.mode);
-            ReflectionUtils.setField(team, "j", 1);
-
-            PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore();
-            ReflectionUtils.setField(score, "a", color);
-            ReflectionUtils.setField(score, "b", "board");
-            ReflectionUtils.setField(score, "c", 15 - i);
-            ReflectionUtils.setField(score, "d", ScoreboardServer.Action.CHANGE);
-
-            HCore.sendPacket(super.player, team, score);
+        if (!create) {
+            HCore.sendPacket(super.player, team);
+            return;
         }
 
-        this.mode = 2;
-        return this;
+        PacketPlayOutScoreboardScore score = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardScore(),
+                ScoreboardUtils.writeScore(entry, "board", 15 - line));
+
+        HCore.sendPacket(super.player, team, score);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void sendLineRemove(int line, @Nonnull Text previous) {
+        PacketPlayOutScoreboardTeam team = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardTeam(),
+                ScoreboardUtils.writeTeamRemove("team_" + line));
+        PacketPlayOutScoreboardScore score = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardScore(),
+                ScoreboardUtils.writeScoreRemove(super.getEntry(line), "board"));
+
+        HCore.sendPacket(super.player, team, score);
     }
 
     /**
@@ -89,9 +92,10 @@ public Scoreboard show() {
     @Nonnull
     @Override
     public Scoreboard delete() {
-        PacketPlayOutScoreboardObjective objective = new PacketPlayOutScoreboardObjective();
-        ReflectionUtils.setField(objective, "a", "board");
-        ReflectionUtils.setField(objective, "d", 1);
+        super.clearSent();
+
+        PacketPlayOutScoreboardObjective objective = PacketReader_v1_13_R2.read(new PacketPlayOutScoreboardObjective(),
+                ScoreboardUtils.writeObjectiveRemove("board"));
 
         HCore.sendPacket(super.player, objective);
         ScoreboardHandler.getContent().remove(super.player.getUniqueId());
@@ -0,0 +1,40 @@
+package com.hakan.core.message.text;
+
+import net.minecraft.server.v1_14_R1.IChatBaseComponent;
+import org.bukkit.craftbukkit.v1_14_R1.util.CraftChatMessage;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * {@inheritDoc}
+ */
+public final class TextWrapper_v1_14_R1 implements TextWrapper {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Object toComponent(@Nonnull String text) {
+        return CraftChatMessage.fromStringOrNull(text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String toJson(@Nonnull String text) {
+        return this.toJson(text, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String toJson(@Nonnull String text, boolean lineBreaks) {
+        return IChatBaseComponent.ChatSerializer.a(CraftChatMessage.fromString(text, lineBreaks)[0]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hakan.core.scoreboard.objective.versions;
+
+import com.hakan.core.message.text.TextWrapper_v1_18_R1;
+import com.hakan.core.scoreboard.objective.ObjectivePackets;
+import com.hakan.core.scoreboard.utils.ScoreboardUtils;
+import net.minecraft.network.PacketDataSerializer;
+import net.minecraft.network.protocol.game.PacketPlayOutScoreboardDisplayObjective;
+import net.minecraft.network.protocol.game.PacketPlayOutScoreboardObjective;
+import net.minecraft.network.protocol.game.PacketPlayOutScoreboardScore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@inheritDoc}
+ */
+public final class ObjectivePackets_v1_18_R1 implements ObjectivePackets {
+
+    private static final TextWrapper_v1_18_R1 wrapper = new TextWrapper_v1_18_R1();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object createObjective(@Nonnull String name, @Nonnull String title, boolean create) {
+        return new PacketPlayOutScoreboardObjective(new PacketDataSerializer(
+                ScoreboardUtils.writeObjective(name, wrapper.toJson(title), create, false)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object removeObjective(@Nonnull String name) {
+        return new PacketPlayOutScoreboardObjective(new PacketDataSerializer(ScoreboardUtils.writeObjectiveRemove(name)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object displayObjective(int position, @Nonnull String name) {
+        return new PacketPlayOutScoreboardDisplayObjective(new PacketDataSerializer(ScoreboardUtils.writeDisplayObjective(position, name)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object updateScore(@Nonnull String entry, @Nonnull String objective, int score) {
+        return new PacketPlayOutScoreboardScore(new PacketDataSerializer(ScoreboardUtils.writeScore(entry, objective, score)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Object removeScore(@Nonnull String entry, @Nonnull String objective) {
+        return new PacketPlayOutScoreboardScore(new PacketDataSerializer(ScoreboardUtils.writeScoreRemove(entry, objective)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.hakan.core.message.text;
+
+import net.minecraft.server.v1_8_R3.ChatComponentText;
+import net.minecraft.server.v1_8_R3.ChatMessage;
+import net.minecraft.server.v1_8_R3.IChatBaseComponent;
+import org.bukkit.craftbukkit.v1_8_R3.util.CraftChatMessage;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * {@inheritDoc}
+ */
+public final class TextWrapper_v1_8_R3 implements TextWrapper {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public Object toComponent(@Nonnull String text) {
+        return new ChatMessage(text);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String toJson(@Nonnull String text) {
+        return this.toJson(text, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String toJson(@Nonnull String text, boolean lineBreaks) {
+        IChatBaseComponent[] lines = CraftChatMessage.fromString(text);
+        if (!lineBreaks)
+            return IChatBaseComponent.ChatSerializer.a(lines[0]);
+
+        IChatBaseComponent component = new ChatComponentText("");
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) component.addSibling(new ChatComponentText("\n"));
+            component.addSibling(lines[i]);
+        }
+        return IChatBaseComponent.ChatSerializer.a(component);
+    }
+}